@@ -0,0 +1,159 @@
+package com.recipe_project.recipe.benchmark;
+
+import com.recipe_project.recipe.catalog.HeapRecipeCatalog;
+import com.recipe_project.recipe.catalog.OffHeapRecipeCatalog;
+import com.recipe_project.recipe.catalog.RecipeCatalog;
+import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.stub.SyntheticCatalogGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Retained heap and read cost of the catalog as a list of {@link RecipeDTO}s versus the
+ * {@link RecipeCatalog} stores. Footprints are printed during setup; the DTO copies every string,
+ * as recipes materialized from JDBC or JSON do.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class CatalogFootprintBenchmark {
+
+    @Param({"100000"})
+    public int recipes;
+
+    private List<RecipeDTO> dtos;
+    private Map<Long, RecipeDTO> dtosById;
+    private RecipeCatalog catalog;
+    private OffHeapRecipeCatalog offHeapCatalog;
+    private long[] lookups;
+
+    @Setup
+    public void setUp() {
+        List<RecipeDTO> generated = new SyntheticCatalogGenerator(42L).recipes(0, recipes);
+
+        dtos = retained("List<RecipeDTO>", () -> generated.stream().map(CatalogFootprintBenchmark::copy).toList());
+        catalog = retained("HeapRecipeCatalog", () -> {
+            RecipeCatalog.Builder builder = HeapRecipeCatalog.builder(recipes);
+            generated.forEach(dto -> builder.add(dto.getId(), copy(dto)));
+            return builder.build();
+        });
+        offHeapCatalog = retained("OffHeapRecipeCatalog", () -> {
+            OffHeapRecipeCatalog.Builder builder = OffHeapRecipeCatalog.builder(recipes, null, 64 << 20);
+            generated.forEach(dto -> builder.add(dto.getId(), copy(dto)));
+            return builder.build();
+        });
+        System.out.printf("OffHeapRecipeCatalog: %.1f MB off-heap%n", offHeapCatalog.offHeapBytes() / (1024.0 * 1024.0));
+
+        dtosById = new HashMap<>();
+        dtos.forEach(dto -> dtosById.put(dto.getId(), dto));
+        SplittableRandom random = new SplittableRandom(7L);
+        lookups = new long[1024];
+        for (int i = 0; i < lookups.length; i++) {
+            lookups[i] = 1 + random.nextInt(recipes);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public void getByIdDTOs(Blackhole blackhole) {
+        for (long id : lookups) {
+            blackhole.consume(dtosById.get(id));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public void getByIdCatalog(Blackhole blackhole) {
+        for (long id : lookups) {
+            blackhole.consume(catalog.toDTO(catalog.indexOf(id)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public void getByIdOffHeap(Blackhole blackhole) {
+        for (long id : lookups) {
+            blackhole.consume(offHeapCatalog.toDTO(offHeapCatalog.indexOf(id)));
+        }
+    }
+
+    @Benchmark
+    public int searchDTOs() {
+        String query = "thai";
+        int matches = 0;
+        for (RecipeDTO dto : dtos) {
+            if (contains(dto.getName(), query) || contains(dto.getCuisine(), query)
+                    || dto.getTags().stream().anyMatch(tag -> contains(tag, query))
+                    || dto.getIngredients().stream().anyMatch(ingredient -> contains(ingredient, query))) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int searchCatalog() {
+        return catalog.search("thai").length;
+    }
+
+    @Benchmark
+    public int searchOffHeap() {
+        return offHeapCatalog.search("thai").length;
+    }
+
+    private static boolean contains(String text, String query) {
+        return text != null && text.toLowerCase().contains(query);
+    }
+
+    private static <T> T retained(String label, Supplier<T> factory) {
+        long before = usedHeap();
+        T value = factory.get();
+        long after = usedHeap();
+        System.out.printf("%n%s: %.1f MB retained%n", label, (after - before) / (1024.0 * 1024.0));
+        return value;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static RecipeDTO copy(RecipeDTO dto) {
+        return RecipeDTO.builder()
+                .id(dto.getId())
+                .name(new String(dto.getName()))
+                .cuisine(new String(dto.getCuisine()))
+                .tags(copy(dto.getTags()))
+                .ingredients(copy(dto.getIngredients()))
+                .instructions(copy(dto.getInstructions()))
+                .cookTimeMinutes(dto.getCookTimeMinutes())
+                .prepTimeMinutes(dto.getPrepTimeMinutes())
+                .servings(dto.getServings())
+                .difficulty(new String(dto.getDifficulty()))
+                .rating(dto.getRating())
+                .reviewCount(dto.getReviewCount())
+                .caloriesPerServing(dto.getCaloriesPerServing())
+                .userId(dto.getUserId())
+                .mealType(copy(dto.getMealType()))
+                .image(new String(dto.getImage()))
+                .build();
+    }
+
+    private static List<String> copy(List<String> values) {
+        return values.stream().map(String::new).collect(Collectors.toList());
+    }
+}
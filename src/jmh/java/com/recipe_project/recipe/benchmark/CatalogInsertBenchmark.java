@@ -0,0 +1,85 @@
+package com.recipe_project.recipe.benchmark;
+
+import com.recipe_project.recipe.RecipeApplication;
+import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.entity.Recipe;
+import com.recipe_project.recipe.mapper.RecipeMapper;
+import com.recipe_project.recipe.repository.CatalogDictionary;
+import com.recipe_project.recipe.repository.RecipeRepository;
+import com.recipe_project.recipe.stub.SyntheticCatalogGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the insert stage of a catalog load: one {@code saveAll} of {@code catalogSize} new
+ * recipes, with their tag, ingredient, instruction and meal type rows, into empty tables.
+ * Each invocation starts from truncated tables and freshly mapped entities.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class CatalogInsertBenchmark {
+
+    private static final List<String> TABLES = List.of(
+            "recipe_tags", "recipe_ingredients", "recipe_instructions", "recipe_meal_types", "recipes",
+            "tags", "cuisines", "meal_types");
+
+    @Param({"10000", "100000"})
+    public int catalogSize;
+
+    private ConfigurableApplicationContext context;
+    private RecipeRepository recipeRepository;
+    private RecipeMapper recipeMapper;
+    private JdbcTemplate jdbcTemplate;
+    private List<RecipeDTO> catalog;
+    private List<Recipe> recipes;
+    private CatalogDictionary dictionary;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(RecipeApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "recipe.catalog.initialize-on-startup=false",
+                        "spring.datasource.url=jdbc:h2:mem:insert-benchmark-" + catalogSize,
+                        "spring.r2dbc.url=r2dbc:h2:mem:///insert-benchmark-" + catalogSize,
+                        "logging.level.root=WARN")
+                .run();
+        recipeRepository = context.getBean(RecipeRepository.class);
+        recipeMapper = context.getBean(RecipeMapper.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        catalog = new SyntheticCatalogGenerator(7L).recipes(0, catalogSize);
+    }
+
+    @Setup(Level.Invocation)
+    public void emptyCatalog() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        TABLES.forEach(table -> jdbcTemplate.execute("TRUNCATE TABLE " + table));
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        dictionary = new CatalogDictionary();
+        recipes = catalog.stream()
+                .map(dto -> recipeMapper.toEntity(dto, dictionary))
+                .peek(recipe -> recipe.setId(null))
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Recipe> saveAll() {
+        recipeRepository.saveDictionary(dictionary);
+        return recipeRepository.saveAll(recipes);
+    }
+}
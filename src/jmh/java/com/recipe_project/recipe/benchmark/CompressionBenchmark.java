@@ -0,0 +1,56 @@
+package com.recipe_project.recipe.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.recipe_project.recipe.compression.ContentEncoding;
+import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.stub.SyntheticCatalogGenerator;
+import com.recipe_project.recipe.util.RecipeDTOSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compresses a JSON {@code GET /api/recipes} payload with each {@link ContentEncoding} at its
+ * per-request and cached levels. The compressed size of each is printed during setup; a cached
+ * payload pays its compression time once per catalog generation instead of per request.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompressionBenchmark {
+
+    @Param({"1000"})
+    public int listSize;
+
+    @Param({"ZSTD", "GZIP"})
+    public ContentEncoding encoding;
+
+    @Param({"dynamic", "cached"})
+    public String level;
+
+    private byte[] json;
+    private int compressionLevel;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new BlackbirdModule())
+                .serializerByType(RecipeDTO.class, new RecipeDTOSerializer())
+                .build();
+        json = mapper.writeValueAsBytes(new SyntheticCatalogGenerator(42L).recipes(0, listSize));
+        compressionLevel = level.equals("cached") ? encoding.cachedLevel() : encoding.dynamicLevel();
+        System.out.printf("%n%s level %d: %d of %d bytes for %d recipes%n", encoding.token(), compressionLevel,
+                encoding.compress(json, compressionLevel).length, json.length, listSize);
+    }
+
+    @Benchmark
+    public byte[] compress() {
+        return encoding.compress(json, compressionLevel);
+    }
+}
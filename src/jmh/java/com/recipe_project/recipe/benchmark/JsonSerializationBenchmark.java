@@ -0,0 +1,55 @@
+package com.recipe_project.recipe.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.stub.SyntheticCatalogGenerator;
+import com.recipe_project.recipe.util.RecipeDTOSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes a list response the way {@code GET /api/recipes} does, using an
+ * ObjectMapper configured like Spring Boot's default one. {@code codec} compares
+ * Jackson's reflection-based bean serializer with Blackbird alone and with the
+ * modules {@code JacksonConfig} registers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"50", "1000"})
+    public int listSize;
+
+    @Param({"default", "blackbird", "fast"})
+    public String codec;
+
+    private ObjectMapper objectMapper;
+    private List<RecipeDTO> recipes;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if (!codec.equals("default")) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        if (codec.equals("fast")) {
+            builder.serializerByType(RecipeDTO.class, new RecipeDTOSerializer());
+        }
+        objectMapper = builder.build();
+        recipes = new SyntheticCatalogGenerator(42L).recipes(0, listSize);
+    }
+
+    @Benchmark
+    public byte[] writeRecipeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(recipes);
+    }
+}
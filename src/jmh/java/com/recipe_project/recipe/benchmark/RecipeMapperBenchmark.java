@@ -0,0 +1,47 @@
+package com.recipe_project.recipe.benchmark;
+
+import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.entity.Recipe;
+import com.recipe_project.recipe.mapper.RecipeMapper;
+import com.recipe_project.recipe.stub.SyntheticCatalogGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecipeMapperBenchmark {
+
+    private final RecipeMapper recipeMapper = new RecipeMapper();
+
+    private List<RecipeDTO> dtos;
+    private List<Recipe> entities;
+
+    @Setup
+    public void setUp() {
+        dtos = new SyntheticCatalogGenerator(42L).recipes(0, 1000);
+        entities = dtos.stream().map(recipeMapper::toEntity).toList();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void toDTO(Blackhole blackhole) {
+        for (Recipe recipe : entities) {
+            blackhole.consume(recipeMapper.toDTO(recipe));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void toEntity(Blackhole blackhole) {
+        for (RecipeDTO dto : dtos) {
+            blackhole.consume(recipeMapper.toEntity(dto));
+        }
+    }
+}
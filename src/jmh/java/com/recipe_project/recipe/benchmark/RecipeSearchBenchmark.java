@@ -0,0 +1,79 @@
+package com.recipe_project.recipe.benchmark;
+
+import com.recipe_project.recipe.RecipeApplication;
+import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.entity.Recipe;
+import com.recipe_project.recipe.mapper.RecipeMapper;
+import com.recipe_project.recipe.repository.CatalogDictionary;
+import com.recipe_project.recipe.repository.RecipeRepository;
+import com.recipe_project.recipe.service.RecipeService;
+import com.recipe_project.recipe.stub.SyntheticCatalogGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@link RecipeService#searchRecipes} against an in-memory H2 catalog seeded with
+ * {@code catalogSize} recipes inside a non-web application context.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecipeSearchBenchmark {
+
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    @Param({"1000", "100000"})
+    public int catalogSize;
+
+    @Param({"chicken", "korean"})
+    public String query;
+
+    private ConfigurableApplicationContext context;
+    private RecipeService recipeService;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(RecipeApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "recipe.catalog.initialize-on-startup=false",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-" + catalogSize,
+                        "spring.r2dbc.url=r2dbc:h2:mem:///benchmark-" + catalogSize,
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "logging.level.root=WARN")
+                .run();
+
+        RecipeRepository recipeRepository = context.getBean(RecipeRepository.class);
+        RecipeMapper recipeMapper = context.getBean(RecipeMapper.class);
+        List<RecipeDTO> recipes = new SyntheticCatalogGenerator(7L).recipes(0, catalogSize);
+        CatalogDictionary dictionary = recipeRepository.loadDictionary();
+        for (int from = 0; from < recipes.size(); from += SEED_BATCH_SIZE) {
+            List<Recipe> batch = recipes.subList(from, Math.min(from + SEED_BATCH_SIZE, recipes.size())).stream()
+                    .map(dto -> recipeMapper.toEntity(dto, dictionary))
+                    .peek(recipe -> recipe.setId(null))
+                    .toList();
+            recipeRepository.saveDictionary(dictionary);
+            recipeRepository.saveAll(batch);
+        }
+        recipeService = context.getBean(RecipeService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<RecipeDTO> searchRecipes() {
+        return recipeService.searchRecipes(query);
+    }
+}
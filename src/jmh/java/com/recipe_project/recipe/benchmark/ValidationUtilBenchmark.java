@@ -0,0 +1,30 @@
+package com.recipe_project.recipe.benchmark;
+
+import com.recipe_project.recipe.util.ValidationUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationUtilBenchmark {
+
+    private final ValidationUtil validationUtil = new ValidationUtil();
+
+    public String query = "  chicken curry  ";
+    public Long recipeId = 42L;
+
+    @Benchmark
+    public void validateSearchQuery() {
+        validationUtil.validateSearchQuery(query);
+    }
+
+    @Benchmark
+    public void validateRecipeId() {
+        validationUtil.validateRecipeId(recipeId);
+    }
+}
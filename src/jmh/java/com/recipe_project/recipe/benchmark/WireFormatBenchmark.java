@@ -0,0 +1,80 @@
+package com.recipe_project.recipe.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.recipe_project.recipe.config.RecipeProtobufHttpMessageConverter.RecipeList;
+import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.stub.SyntheticCatalogGenerator;
+import com.recipe_project.recipe.util.RecipeDTOSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes and decodes a {@code GET /api/recipes} payload in each wire format the API negotiates,
+ * with mappers configured like the application's. The encoded size of each format is printed
+ * during setup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    @Param({"1000"})
+    public int listSize;
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    public String format;
+
+    private RecipeList recipes;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        recipes = new RecipeList(new SyntheticCatalogGenerator(42L).recipes(0, listSize));
+        ObjectMapper mapper = switch (format) {
+            case "json" -> new ObjectMapper();
+            case "cbor" -> new CBORMapper();
+            case "smile" -> new SmileMapper();
+            case "protobuf" -> new ProtobufMapper();
+            default -> throw new IllegalArgumentException(format);
+        };
+        Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new BlackbirdModule())
+                .serializerByType(RecipeDTO.class, new RecipeDTOSerializer())
+                .configure(mapper);
+        if (mapper instanceof ProtobufMapper protobufMapper) {
+            ProtobufSchema schema = new ProtobufMapper().generateSchemaFor(RecipeList.class);
+            writer = protobufMapper.writer(schema);
+            reader = protobufMapper.readerFor(RecipeList.class).with(schema);
+        } else {
+            writer = mapper.writer();
+            reader = mapper.readerFor(RecipeList.class);
+        }
+        encoded = writer.writeValueAsBytes(recipes);
+        System.out.printf("%n%s: %d bytes for %d recipes%n", format, encoded.length, listSize);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.writeValueAsBytes(recipes);
+    }
+
+    @Benchmark
+    public RecipeList decode() throws IOException {
+        return reader.readValue(encoded);
+    }
+}
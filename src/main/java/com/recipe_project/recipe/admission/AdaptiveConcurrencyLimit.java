@@ -0,0 +1,119 @@
+package com.recipe_project.recipe.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A concurrency limit that follows the latency of the requests it admits, after the gradient
+ * algorithm of Netflix's concurrency-limits. A short-term average latency is compared with a
+ * long-term one: while they agree the limit grows by about its square root per sample, and once
+ * requests start queueing somewhere downstream (Tomcat threads, the JDBC pool) the short-term
+ * latency rises and the limit shrinks in proportion, down to half per sample.
+ * <p>
+ * {@link #tryAcquire()} never blocks; callers shed the request when it returns false.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    // Latency may reach this multiple of the long-term average before the limit shrinks
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final int SHORT_WINDOW = 10;
+    private static final int LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+    private volatile double longRttNanos;
+
+    // Guarded by this
+    private double estimatedLimit;
+    private double shortRttNanos;
+    private long samples;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Need 1 <= min <= initial <= max, got min " + minLimit
+                    + ", initial " + initialLimit + ", max " + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    /**
+     * Takes a slot if fewer requests than the limit are in flight. Every successful call must be
+     * followed by exactly one {@link #onSuccess} or {@link #onIgnore}.
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Releases a slot and adjusts the limit to the request's latency.
+     */
+    public void onSuccess(long rttNanos) {
+        int concurrency = inFlight.getAndDecrement();
+        update(rttNanos, concurrency);
+    }
+
+    /**
+     * Releases a slot without learning from it, for requests whose latency says nothing about
+     * load, such as failures.
+     */
+    public void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * The long-term average latency in whole seconds, at least one: how long a shed client should
+     * wait before a slot is likely to have freed up.
+     */
+    public long retryAfterSeconds() {
+        return Math.max(1, (long) Math.ceil(longRttNanos / TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    private synchronized void update(long rttNanos, int concurrency) {
+        samples++;
+        if (samples == 1) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+            return;
+        }
+        shortRttNanos += (rttNanos - shortRttNanos) / Math.min(samples, SHORT_WINDOW);
+        double longRtt = longRttNanos + (rttNanos - longRttNanos) / Math.min(samples, LONG_WINDOW);
+        if (longRtt > 2 * shortRttNanos) {
+            // A spike has passed; forget it faster than the long window would
+            longRtt *= 0.95;
+        }
+        longRttNanos = longRtt;
+
+        // Latency measured well below the limit says nothing about what the limit could be
+        if (concurrency < estimatedLimit / 2) {
+            return;
+        }
+        double gradient = shortRttNanos > 0
+                ? Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRttNanos))
+                : 1.0;
+        double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit,
+                estimatedLimit * (1 - SMOOTHING) + target * SMOOTHING));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,84 @@
+package com.recipe_project.recipe.admission;
+
+import com.recipe_project.recipe.metrics.RecipeMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Sheds recipe API requests with {@code 503 Service Unavailable} once their
+ * {@link EndpointClass} has as many requests in flight as its {@link AdaptiveConcurrencyLimit}
+ * allows, so a burst of searches or a second reload is turned away quickly instead of queueing
+ * for Tomcat threads and JDBC connections that detail reads also need. {@code Retry-After} is
+ * the class's typical latency.
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionControlFilter.class);
+
+    private final Map<EndpointClass, AdaptiveConcurrencyLimit> limits;
+    private final RecipeMetrics recipeMetrics;
+    private final Map<EndpointClass, byte[]> rejectionBodies = new EnumMap<>(EndpointClass.class);
+
+    public AdmissionControlFilter(Map<EndpointClass, AdaptiveConcurrencyLimit> limits, RecipeMetrics recipeMetrics) {
+        this.limits = new EnumMap<>(limits);
+        this.recipeMetrics = recipeMetrics;
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            // Same shape as the GlobalExceptionHandler bodies
+            rejectionBodies.put(endpointClass, ("{\"error\":\"Service overloaded\",\"message\":\"Too many concurrent "
+                    + endpointClass.tagValue() + " requests, please retry later\"}").getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        EndpointClass endpointClass = EndpointClass.of(request.getMethod(),
+                request.getRequestURI().substring(request.getContextPath().length()));
+        AdaptiveConcurrencyLimit limit = limits.get(endpointClass);
+        if (limit == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!limit.tryAcquire()) {
+            reject(response, endpointClass, limit);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = response.getStatus() < HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        } finally {
+            if (completed) {
+                limit.onSuccess(System.nanoTime() - startNanos);
+            } else {
+                limit.onIgnore();
+            }
+        }
+    }
+
+    private void reject(HttpServletResponse response, EndpointClass endpointClass, AdaptiveConcurrencyLimit limit)
+            throws IOException {
+        recipeMetrics.recordAdmissionRejected(endpointClass);
+        logger.debug("Shed {} request at {} in flight", endpointClass.tagValue(), limit.getLimit());
+        byte[] body = rejectionBodies.get(endpointClass);
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(limit.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,43 @@
+package com.recipe_project.recipe.admission;
+
+/**
+ * Groups the recipe API's requests by cost, each with its own concurrency budget so that a burst
+ * of one kind cannot take the threads and connections the others need.
+ */
+public enum EndpointClass {
+
+    /** {@code GET /api/recipes/{id}}: a single lookup. */
+    DETAIL("detail"),
+    /** {@code GET /api/recipes}: the whole catalog. */
+    LIST("list"),
+    /** {@code GET /api/recipes/search}: a scan of the catalog or the database. */
+    SEARCH("search"),
+    /** {@code POST /api/recipes/load}: a full upstream fetch and rewrite of the catalog. */
+    RELOAD("reload");
+
+    private static final String BASE_PATH = "/api/recipes";
+
+    private final String tagValue;
+
+    EndpointClass(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String tagValue() {
+        return tagValue;
+    }
+
+    /**
+     * The class of a request for {@code path} under {@code /api/recipes}, relative to the context
+     * path.
+     */
+    public static EndpointClass of(String method, String path) {
+        String relative = path.startsWith(BASE_PATH) ? path.substring(BASE_PATH.length()) : path;
+        return switch (relative) {
+            case "" -> LIST;
+            case "/search" -> SEARCH;
+            case "/load" -> "POST".equals(method) ? RELOAD : DETAIL;
+            default -> DETAIL;
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package com.recipe_project.recipe.catalog;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Case-insensitive substring matching shared by the catalog implementations.
+ */
+final class CatalogText {
+
+    private CatalogText() {
+    }
+
+    static boolean containsIgnoreCase(String text, String query) {
+        if (text == null) {
+            return false;
+        }
+        int last = text.length() - query.length();
+        for (int start = 0; start <= last; start++) {
+            if (text.regionMatches(true, start, query, 0, query.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@link #containsIgnoreCase(String, String)} on {@code length} UTF-8 bytes at {@code offset}.
+     * Pure ASCII text is compared in place; anything else is decoded first, since non-ASCII
+     * characters can case-fold onto ASCII ones.
+     *
+     * @param asciiQuery {@code query} if it is ASCII, else null
+     */
+    static boolean containsIgnoreCase(ByteBuffer buffer, int offset, int length, String query, String asciiQuery) {
+        if (asciiQuery != null && isAscii(buffer, offset, length)) {
+            int last = length - asciiQuery.length();
+            for (int start = 0; start <= last; start++) {
+                if (regionMatchesAscii(buffer, offset + start, asciiQuery)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return containsIgnoreCase(new String(bytes, StandardCharsets.UTF_8), query);
+    }
+
+    private static boolean isAscii(ByteBuffer buffer, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (buffer.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean regionMatchesAscii(ByteBuffer buffer, int offset, String query) {
+        for (int i = 0; i < query.length(); i++) {
+            if (lower(buffer.get(offset + i)) != lower((byte) query.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int lower(byte b) {
+        return b >= 'A' && b <= 'Z' ? b + ('a' - 'A') : b;
+    }
+}
@@ -0,0 +1,524 @@
+package com.recipe_project.recipe.catalog;
+
+import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.dto.RecipeSummaryDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, column-oriented copy of the whole catalog on the Java heap. Each field
+ * is one array indexed by position, with positions in ascending id order:
+ * <ul>
+ *   <li>numbers are primitive {@code int[]}/{@code double[]} columns, with
+ *       {@link Integer#MIN_VALUE} and {@code NaN} standing for null;</li>
+ *   <li>difficulty, cuisine, tags, meal types and ingredients are codes into one shared term
+ *       table, so each distinct string exists once;</li>
+ *   <li>list columns are one flat code array plus per-recipe offsets;</li>
+ *   <li>image URLs are UTF-8 bytes in a single array with offsets;</li>
+ *   <li>instructions, which rarely repeat as whole sentences, are stored the same way as varint
+ *       codes into a table of their space-separated words.</li>
+ * </ul>
+ * {@link RecipeDTO}s are only built when a response needs them, then kept: DTOs are immutable,
+ * so each is built once per catalog generation and shared by every later response, and the memo
+ * goes away with the catalog when the next generation is published.
+ */
+public final class HeapRecipeCatalog implements RecipeCatalog {
+
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final int NULL_CODE = -1;
+
+    private final int size;
+    private final long[] ids;
+    private final String[] names;
+    private final TextLists images;
+    private final int[] cookTimeMinutes;
+    private final int[] prepTimeMinutes;
+    private final int[] servings;
+    private final int[] reviewCounts;
+    private final int[] caloriesPerServing;
+    private final int[] userIds;
+    private final double[] ratings;
+    private final String[] terms;
+    private final int[] difficulties;
+    private final int[] cuisines;
+    private final CodeLists tags;
+    private final CodeLists mealTypes;
+    private final CodeLists ingredients;
+    private final TextLists instructions;
+    // Written without synchronization: racing readers may each build a DTO, but any of them is
+    // equal and fully visible through its final fields, so the last write winning is harmless
+    private final RecipeDTO[] dtos;
+    private final RecipeSummaryDTO[] summaries;
+    private volatile List<RecipeDTO> allDTOs;
+    private volatile List<RecipeSummaryDTO> allSummaryDTOs;
+
+    private HeapRecipeCatalog(Builder builder) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.names = Arrays.copyOf(builder.names, size);
+        this.images = builder.images.build(size);
+        this.cookTimeMinutes = Arrays.copyOf(builder.cookTimeMinutes, size);
+        this.prepTimeMinutes = Arrays.copyOf(builder.prepTimeMinutes, size);
+        this.servings = Arrays.copyOf(builder.servings, size);
+        this.reviewCounts = Arrays.copyOf(builder.reviewCounts, size);
+        this.caloriesPerServing = Arrays.copyOf(builder.caloriesPerServing, size);
+        this.userIds = Arrays.copyOf(builder.userIds, size);
+        this.ratings = Arrays.copyOf(builder.ratings, size);
+        this.terms = builder.terms.toArray(new String[0]);
+        this.difficulties = Arrays.copyOf(builder.difficulties, size);
+        this.cuisines = Arrays.copyOf(builder.cuisines, size);
+        this.tags = builder.tags.build(size);
+        this.mealTypes = builder.mealTypes.build(size);
+        this.ingredients = builder.ingredients.build(size);
+        this.instructions = builder.instructions.build(size);
+        this.dtos = new RecipeDTO[size];
+        this.summaries = new RecipeSummaryDTO[size];
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Number of distinct difficulty, cuisine, tag, meal type and ingredient strings.
+     */
+    public int termCount() {
+        return terms.length;
+    }
+
+    @Override
+    public int indexOf(long id) {
+        int position = Arrays.binarySearch(ids, id);
+        return position >= 0 ? position : -1;
+    }
+
+    @Override
+    public int[] search(String query) {
+        // Each distinct term is tested once; recipes are then matched on codes
+        BitSet matchingTerms = new BitSet(terms.length);
+        for (int code = 0; code < terms.length; code++) {
+            if (CatalogText.containsIgnoreCase(terms[code], query)) {
+                matchingTerms.set(code);
+            }
+        }
+
+        int[] matches = new int[16];
+        int count = 0;
+        for (int position = 0; position < size; position++) {
+            if (CatalogText.containsIgnoreCase(names[position], query)
+                    || (cuisines[position] != NULL_CODE && matchingTerms.get(cuisines[position]))
+                    || tags.anyMatch(position, matchingTerms)
+                    || ingredients.anyMatch(position, matchingTerms)) {
+                if (count == matches.length) {
+                    matches = Arrays.copyOf(matches, count * 2);
+                }
+                matches[count++] = position;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    @Override
+    public RecipeDTO toDTO(int position) {
+        RecipeDTO dto = dtos[position];
+        if (dto == null) {
+            dto = buildDTO(position);
+            dtos[position] = dto;
+        }
+        return dto;
+    }
+
+    @Override
+    public RecipeSummaryDTO toSummaryDTO(int position) {
+        RecipeSummaryDTO summary = summaries[position];
+        if (summary == null) {
+            summary = buildSummaryDTO(position);
+            summaries[position] = summary;
+        }
+        return summary;
+    }
+
+    @Override
+    public List<RecipeDTO> all() {
+        List<RecipeDTO> all = allDTOs;
+        if (all == null) {
+            all = RecipeCatalog.super.all();
+            allDTOs = all;
+        }
+        return all;
+    }
+
+    @Override
+    public List<RecipeSummaryDTO> allSummaries() {
+        List<RecipeSummaryDTO> all = allSummaryDTOs;
+        if (all == null) {
+            all = RecipeCatalog.super.allSummaries();
+            allSummaryDTOs = all;
+        }
+        return all;
+    }
+
+    private RecipeDTO buildDTO(int position) {
+        return RecipeDTO.builder()
+                .id(ids[position])
+                .name(names[position])
+                .cookTimeMinutes(intOrNull(cookTimeMinutes[position]))
+                .prepTimeMinutes(intOrNull(prepTimeMinutes[position]))
+                .servings(intOrNull(servings[position]))
+                .difficulty(term(difficulties[position]))
+                .tags(tags.get(position, terms))
+                .ingredients(ingredients.get(position, terms))
+                .instructions(instructions.get(position))
+                .cuisine(term(cuisines[position]))
+                .image(images.getSingle(position))
+                .rating(Double.isNaN(ratings[position]) ? null : ratings[position])
+                .reviewCount(intOrNull(reviewCounts[position]))
+                .caloriesPerServing(intOrNull(caloriesPerServing[position]))
+                .userId(intOrNull(userIds[position]))
+                .mealType(mealTypes.get(position, terms))
+                .build();
+    }
+
+    private RecipeSummaryDTO buildSummaryDTO(int position) {
+        List<String> recipeTags = tags.get(position, terms);
+        return RecipeSummaryDTO.builder()
+                .id(ids[position])
+                .name(names[position])
+                .cuisine(term(cuisines[position]))
+                .tags(recipeTags == null ? List.of() : recipeTags)
+                .cookTimeMinutes(intOrNull(cookTimeMinutes[position]))
+                .image(images.getSingle(position))
+                .rating(Double.isNaN(ratings[position]) ? null : ratings[position])
+                .build();
+    }
+
+    private String term(int code) {
+        return code == NULL_CODE ? null : terms[code];
+    }
+
+    private static Integer intOrNull(int value) {
+        return value == NULL_INT ? null : value;
+    }
+
+    /**
+     * Per-recipe lists of term codes: recipe {@code p} owns {@code codes[offsets[p]..offsets[p+1])}.
+     */
+    private record CodeLists(int[] offsets, int[] codes, BitSet nulls) {
+
+        List<String> get(int position, String[] terms) {
+            if (nulls.get(position)) {
+                return null;
+            }
+            int from = offsets[position];
+            String[] values = new String[offsets[position + 1] - from];
+            for (int i = 0; i < values.length; i++) {
+                int code = codes[from + i];
+                values[i] = code == NULL_CODE ? null : terms[code];
+            }
+            return Collections.unmodifiableList(Arrays.asList(values));
+        }
+
+        boolean anyMatch(int position, BitSet matchingTerms) {
+            for (int i = offsets[position], end = offsets[position + 1]; i < end; i++) {
+                if (codes[i] != NULL_CODE && matchingTerms.get(codes[i])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Per-recipe lists of strings: recipe {@code p} owns strings {@code offsets[p]..offsets[p+1]},
+     * and string {@code s} is encoded in {@code bytes[textOffsets[s]..textOffsets[s+1])}, as UTF-8
+     * or, when {@code words} is set, as varint word codes to be joined with spaces. Strings set in
+     * {@code nullTexts} are null.
+     */
+    private record TextLists(int[] offsets, int[] textOffsets, byte[] bytes, BitSet nulls, BitSet nullTexts, String[] words) {
+
+        List<String> get(int position) {
+            if (nulls.get(position)) {
+                return null;
+            }
+            int from = offsets[position];
+            String[] values = new String[offsets[position + 1] - from];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = text(from + i);
+            }
+            return Collections.unmodifiableList(Arrays.asList(values));
+        }
+
+        /**
+         * The only string of a column built with {@link TextListsBuilder#addSingle}.
+         */
+        String getSingle(int position) {
+            return nulls.get(position) ? null : text(offsets[position]);
+        }
+
+        private String text(int text) {
+            if (nullTexts.get(text)) {
+                return null;
+            }
+            int from = textOffsets[text];
+            int end = textOffsets[text + 1];
+            if (words == null) {
+                return new String(bytes, from, end - from, StandardCharsets.UTF_8);
+            }
+            StringBuilder joined = new StringBuilder((end - from) * 8);
+            int i = from;
+            while (i < end) {
+                if (i > from) {
+                    joined.append(' ');
+                }
+                int code = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = bytes[i++];
+                    code |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                joined.append(words[code]);
+            }
+            return joined.toString();
+        }
+    }
+
+    public static final class Builder implements RecipeCatalog.Builder {
+
+        private final Map<String, Integer> termCodes = new HashMap<>();
+        private final List<String> terms = new ArrayList<>();
+        private final CodeListsBuilder tags;
+        private final CodeListsBuilder mealTypes;
+        private final CodeListsBuilder ingredients;
+        private final TextListsBuilder instructions;
+        private final TextListsBuilder images;
+        private int size;
+        private long[] ids;
+        private String[] names;
+        private int[] cookTimeMinutes;
+        private int[] prepTimeMinutes;
+        private int[] servings;
+        private int[] reviewCounts;
+        private int[] caloriesPerServing;
+        private int[] userIds;
+        private double[] ratings;
+        private int[] difficulties;
+        private int[] cuisines;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 16);
+            ids = new long[capacity];
+            names = new String[capacity];
+            cookTimeMinutes = new int[capacity];
+            prepTimeMinutes = new int[capacity];
+            servings = new int[capacity];
+            reviewCounts = new int[capacity];
+            caloriesPerServing = new int[capacity];
+            userIds = new int[capacity];
+            ratings = new double[capacity];
+            difficulties = new int[capacity];
+            cuisines = new int[capacity];
+            tags = new CodeListsBuilder(capacity, capacity * 4);
+            mealTypes = new CodeListsBuilder(capacity, capacity * 2);
+            ingredients = new CodeListsBuilder(capacity, capacity * 10);
+            instructions = new TextListsBuilder(capacity, capacity * 6, true);
+            images = new TextListsBuilder(capacity, capacity, false);
+        }
+
+        @Override
+        public Builder add(long id, RecipeDTO recipe) {
+            if (size > 0 && id <= ids[size - 1]) {
+                throw new IllegalArgumentException("Recipe ids must be added in ascending order: " + id);
+            }
+            if (size == ids.length) {
+                grow();
+            }
+            ids[size] = id;
+            names[size] = recipe.getName();
+            images.addSingle(size, recipe.getImage());
+            cookTimeMinutes[size] = intOrNullMarker(recipe.getCookTimeMinutes());
+            prepTimeMinutes[size] = intOrNullMarker(recipe.getPrepTimeMinutes());
+            servings[size] = intOrNullMarker(recipe.getServings());
+            reviewCounts[size] = intOrNullMarker(recipe.getReviewCount());
+            caloriesPerServing[size] = intOrNullMarker(recipe.getCaloriesPerServing());
+            userIds[size] = intOrNullMarker(recipe.getUserId());
+            ratings[size] = recipe.getRating() == null ? Double.NaN : recipe.getRating();
+            difficulties[size] = code(recipe.getDifficulty());
+            cuisines[size] = code(recipe.getCuisine());
+            tags.add(size, recipe.getTags(), this);
+            mealTypes.add(size, recipe.getMealType(), this);
+            ingredients.add(size, recipe.getIngredients(), this);
+            instructions.add(size, recipe.getInstructions());
+            size++;
+            return this;
+        }
+
+        @Override
+        public HeapRecipeCatalog build() {
+            return new HeapRecipeCatalog(this);
+        }
+
+        private int code(String term) {
+            if (term == null) {
+                return NULL_CODE;
+            }
+            Integer code = termCodes.get(term);
+            if (code == null) {
+                code = terms.size();
+                termCodes.put(term, code);
+                terms.add(term);
+            }
+            return code;
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            names = Arrays.copyOf(names, capacity);
+            cookTimeMinutes = Arrays.copyOf(cookTimeMinutes, capacity);
+            prepTimeMinutes = Arrays.copyOf(prepTimeMinutes, capacity);
+            servings = Arrays.copyOf(servings, capacity);
+            reviewCounts = Arrays.copyOf(reviewCounts, capacity);
+            caloriesPerServing = Arrays.copyOf(caloriesPerServing, capacity);
+            userIds = Arrays.copyOf(userIds, capacity);
+            ratings = Arrays.copyOf(ratings, capacity);
+            difficulties = Arrays.copyOf(difficulties, capacity);
+            cuisines = Arrays.copyOf(cuisines, capacity);
+        }
+
+        private static int intOrNullMarker(Integer value) {
+            return value == null ? NULL_INT : value;
+        }
+    }
+
+    private static final class CodeListsBuilder {
+
+        private final BitSet nulls = new BitSet();
+        private int[] offsets;
+        private int[] codes;
+        private int count;
+
+        CodeListsBuilder(int recipes, int values) {
+            offsets = new int[recipes + 1];
+            codes = new int[values];
+        }
+
+        void add(int position, List<String> values, Builder builder) {
+            if (position + 1 == offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            if (values == null) {
+                nulls.set(position);
+            } else {
+                for (String value : values) {
+                    if (count == codes.length) {
+                        codes = Arrays.copyOf(codes, Math.max(16, codes.length * 2));
+                    }
+                    codes[count++] = builder.code(value);
+                }
+            }
+            offsets[position + 1] = count;
+        }
+
+        CodeLists build(int size) {
+            return new CodeLists(Arrays.copyOf(offsets, size + 1), Arrays.copyOf(codes, count), nulls);
+        }
+    }
+
+    private static final class TextListsBuilder {
+
+        private final BitSet nulls = new BitSet();
+        private final BitSet nullTexts = new BitSet();
+        private final Map<String, Integer> wordCodes;
+        private final List<String> words;
+        private int[] offsets;
+        private int[] textOffsets;
+        private byte[] bytes;
+        private int texts;
+        private int length;
+
+        TextListsBuilder(int recipes, int values, boolean wordCoded) {
+            offsets = new int[recipes + 1];
+            textOffsets = new int[values + 1];
+            bytes = new byte[values * (wordCoded ? 16 : 64)];
+            wordCodes = wordCoded ? new HashMap<>() : null;
+            words = wordCoded ? new ArrayList<>() : null;
+        }
+
+        void add(int position, List<String> values) {
+            if (position + 1 == offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            if (values == null) {
+                nulls.set(position);
+            } else {
+                for (String value : values) {
+                    if (texts + 1 == textOffsets.length) {
+                        textOffsets = Arrays.copyOf(textOffsets, textOffsets.length * 2);
+                    }
+                    if (value == null) {
+                        nullTexts.set(texts);
+                    } else if (wordCodes == null) {
+                        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+                        ensureCapacity(encoded.length);
+                        System.arraycopy(encoded, 0, bytes, length, encoded.length);
+                        length += encoded.length;
+                    } else {
+                        for (String word : value.split(" ", -1)) {
+                            writeVarint(wordCode(word));
+                        }
+                    }
+                    textOffsets[++texts] = length;
+                }
+            }
+            offsets[position + 1] = texts;
+        }
+
+        private int wordCode(String word) {
+            Integer code = wordCodes.get(word);
+            if (code == null) {
+                code = words.size();
+                wordCodes.put(word, code);
+                words.add(word);
+            }
+            return code;
+        }
+
+        private void writeVarint(int value) {
+            ensureCapacity(5);
+            while ((value & ~0x7F) != 0) {
+                bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[length++] = (byte) value;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (length + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(length + extra, bytes.length * 2));
+            }
+        }
+
+        void addSingle(int position, String value) {
+            add(position, value == null ? null : Collections.singletonList(value));
+        }
+
+        TextLists build(int size) {
+            return new TextLists(Arrays.copyOf(offsets, size + 1), Arrays.copyOf(textOffsets, texts + 1),
+                    Arrays.copyOf(bytes, length), nulls, nullTexts, words == null ? null : words.toArray(new String[0]));
+        }
+    }
+}
@@ -0,0 +1,524 @@
+package com.recipe_project.recipe.catalog;
+
+import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.dto.RecipeSummaryDTO;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Catalog whose recipes live outside the Java heap, so heap size and GC work do not grow with
+ * the catalog. Each recipe is one serialized record in a chunk of direct memory, or of a
+ * memory-mapped file when a directory is given; a sorted index of {@code (id, chunk, offset)}
+ * entries sits in the same kind of memory. Only the small vocabularies of cuisines,
+ * difficulties, tags and meal types are kept on the heap.
+ * <p>
+ * A record starts with the searchable fields, so a search decodes nothing but names and
+ * ingredients it cannot compare in place:
+ * <pre>
+ * name | cuisine | tags | ingredients | difficulty | meal types | instructions | image |
+ * presence mask | cookTime prepTime servings reviewCount calories userId | rating
+ * </pre>
+ * Strings are a varint of length + 1 (0 for null) and UTF-8 bytes; vocabulary values are a
+ * varint of code + 1; lists are a varint of size + 1 followed by their elements; present ints are
+ * zigzag varints and the rating is 8 bytes.
+ */
+public final class OffHeapRecipeCatalog implements RecipeCatalog {
+
+    private static final int INDEX_ENTRY_BYTES = 16;
+    private static final int MASK_RATING = 1 << 6;
+
+    private final int size;
+    private final ByteBuffer index;
+    private final ByteBuffer[] chunks;
+    private final String[] terms;
+
+    private OffHeapRecipeCatalog(int size, ByteBuffer index, ByteBuffer[] chunks, String[] terms) {
+        this.size = size;
+        this.index = index;
+        this.chunks = chunks;
+        this.terms = terms;
+    }
+
+    /**
+     * @param directory where to create the memory-mapped chunk files, or null for direct memory
+     * @param chunkSize bytes per chunk; a single recipe record must fit in one chunk
+     */
+    public static Builder builder(int expectedSize, Path directory, int chunkSize) {
+        return new Builder(expectedSize, directory, chunkSize);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Bytes of records and index held outside the heap.
+     */
+    public long offHeapBytes() {
+        long bytes = index.capacity();
+        for (ByteBuffer chunk : chunks) {
+            bytes += chunk.capacity();
+        }
+        return bytes;
+    }
+
+    @Override
+    public int indexOf(long id) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleId = index.getLong(middle * INDEX_ENTRY_BYTES);
+            if (middleId < id) {
+                low = middle + 1;
+            } else if (middleId > id) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int[] search(String query) {
+        BitSet matchingTerms = new BitSet(terms.length);
+        for (int code = 0; code < terms.length; code++) {
+            if (CatalogText.containsIgnoreCase(terms[code], query)) {
+                matchingTerms.set(code);
+            }
+        }
+        String asciiQuery = CatalogText.isAscii(query) ? query : null;
+
+        int[] matches = new int[16];
+        int count = 0;
+        Reader reader = new Reader();
+        for (int position = 0; position < size; position++) {
+            if (reader.at(position).matches(query, asciiQuery, matchingTerms)) {
+                if (count == matches.length) {
+                    matches = Arrays.copyOf(matches, count * 2);
+                }
+                matches[count++] = position;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    @Override
+    public RecipeDTO toDTO(int position) {
+        Reader reader = new Reader().at(position);
+        RecipeDTO.RecipeDTOBuilder recipe = RecipeDTO.builder()
+                .id(index.getLong(position * INDEX_ENTRY_BYTES))
+                .name(reader.text())
+                .cuisine(reader.term())
+                .tags(reader.terms())
+                .ingredients(reader.texts())
+                .difficulty(reader.term())
+                .mealType(reader.terms())
+                .instructions(reader.texts())
+                .image(reader.text());
+        int mask = reader.mask();
+        return recipe
+                .cookTimeMinutes(reader.optionalInt(mask, 0))
+                .prepTimeMinutes(reader.optionalInt(mask, 1))
+                .servings(reader.optionalInt(mask, 2))
+                .reviewCount(reader.optionalInt(mask, 3))
+                .caloriesPerServing(reader.optionalInt(mask, 4))
+                .userId(reader.optionalInt(mask, 5))
+                .rating(reader.rating(mask))
+                .build();
+    }
+
+    /**
+     * Decodes only the summary fields, stepping over ingredients, instructions and the other
+     * fields by their lengths.
+     */
+    @Override
+    public RecipeSummaryDTO toSummaryDTO(int position) {
+        Reader reader = new Reader().at(position);
+        RecipeSummaryDTO.RecipeSummaryDTOBuilder summary = RecipeSummaryDTO.builder()
+                .id(index.getLong(position * INDEX_ENTRY_BYTES))
+                .name(reader.text())
+                .cuisine(reader.term());
+        List<String> tags = reader.terms();
+        reader.skipTexts();
+        reader.skipTerm();
+        reader.skipTerms();
+        reader.skipTexts();
+        summary.tags(tags == null ? List.of() : tags)
+                .image(reader.text());
+        int mask = reader.mask();
+        summary.cookTimeMinutes(reader.optionalInt(mask, 0));
+        for (int bit = 1; bit <= 5; bit++) {
+            reader.skipOptionalInt(mask, bit);
+        }
+        return summary
+                .rating(reader.rating(mask))
+                .build();
+    }
+
+    /**
+     * Sequential cursor over one record; a new one is used per read, so readers never share state.
+     */
+    private final class Reader {
+
+        private ByteBuffer buffer;
+        private int offset;
+
+        Reader at(int position) {
+            long reference = index.getLong(position * INDEX_ENTRY_BYTES + 8);
+            buffer = chunks[(int) (reference >>> 32)];
+            offset = (int) reference;
+            return this;
+        }
+
+        boolean matches(String query, String asciiQuery, BitSet matchingTerms) {
+            if (textMatches(query, asciiQuery)) {
+                return true;
+            }
+            int cuisine = varint() - 1;
+            if (cuisine >= 0 && matchingTerms.get(cuisine)) {
+                return true;
+            }
+            int tags = varint() - 1;
+            for (int i = 0; i < tags; i++) {
+                int tag = varint() - 1;
+                if (tag >= 0 && matchingTerms.get(tag)) {
+                    return true;
+                }
+            }
+            int ingredients = varint() - 1;
+            for (int i = 0; i < ingredients; i++) {
+                if (textMatches(query, asciiQuery)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean textMatches(String query, String asciiQuery) {
+            int length = varint() - 1;
+            if (length < 0) {
+                return false;
+            }
+            boolean matched = CatalogText.containsIgnoreCase(buffer, offset, length, query, asciiQuery);
+            offset += length;
+            return matched;
+        }
+
+        String text() {
+            int length = varint() - 1;
+            if (length < 0) {
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(offset, bytes);
+            offset += length;
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        List<String> texts() {
+            int count = varint() - 1;
+            if (count < 0) {
+                return null;
+            }
+            String[] values = new String[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = text();
+            }
+            return Collections.unmodifiableList(Arrays.asList(values));
+        }
+
+        void skipTexts() {
+            int count = varint() - 1;
+            for (int i = 0; i < count; i++) {
+                int length = varint() - 1;
+                if (length > 0) {
+                    offset += length;
+                }
+            }
+        }
+
+        String term() {
+            int code = varint() - 1;
+            return code < 0 ? null : terms[code];
+        }
+
+        void skipTerm() {
+            varint();
+        }
+
+        void skipTerms() {
+            int count = varint() - 1;
+            for (int i = 0; i < count; i++) {
+                varint();
+            }
+        }
+
+        List<String> terms() {
+            int count = varint() - 1;
+            if (count < 0) {
+                return null;
+            }
+            String[] values = new String[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = term();
+            }
+            return Collections.unmodifiableList(Arrays.asList(values));
+        }
+
+        int mask() {
+            return buffer.get(offset++);
+        }
+
+        Integer optionalInt(int mask, int bit) {
+            if ((mask & (1 << bit)) == 0) {
+                return null;
+            }
+            int zigzag = varint();
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        void skipOptionalInt(int mask, int bit) {
+            if ((mask & (1 << bit)) != 0) {
+                varint();
+            }
+        }
+
+        Double rating(int mask) {
+            if ((mask & MASK_RATING) == 0) {
+                return null;
+            }
+            double rating = buffer.getDouble(offset);
+            offset += 8;
+            return rating;
+        }
+
+        private int varint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer.get(offset++);
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+
+    public static final class Builder implements RecipeCatalog.Builder {
+
+        private final Path directory;
+        private final int chunkSize;
+        private final Map<String, Integer> termCodes = new HashMap<>();
+        private final List<String> terms = new ArrayList<>();
+        private final List<ByteBuffer> chunks = new ArrayList<>();
+        private ByteBuffer index;
+        private byte[] record = new byte[1024];
+        private int recordLength;
+        private int size;
+        private long lastId;
+
+        private Builder(int expectedSize, Path directory, int chunkSize) {
+            this.directory = directory;
+            this.chunkSize = chunkSize;
+            this.index = allocate(indexBytes(Math.max(expectedSize, 16)));
+        }
+
+        @Override
+        public Builder add(long id, RecipeDTO recipe) {
+            if (size > 0 && id <= lastId) {
+                throw new IllegalArgumentException("Recipe ids must be added in ascending order: " + id);
+            }
+            recordLength = 0;
+            writeText(recipe.getName());
+            writeTerm(recipe.getCuisine());
+            writeTerms(recipe.getTags());
+            writeTexts(recipe.getIngredients());
+            writeTerm(recipe.getDifficulty());
+            writeTerms(recipe.getMealType());
+            writeTexts(recipe.getInstructions());
+            writeText(recipe.getImage());
+            Integer[] ints = {recipe.getCookTimeMinutes(), recipe.getPrepTimeMinutes(), recipe.getServings(),
+                    recipe.getReviewCount(), recipe.getCaloriesPerServing(), recipe.getUserId()};
+            int mask = recipe.getRating() == null ? 0 : MASK_RATING;
+            for (int bit = 0; bit < ints.length; bit++) {
+                mask |= ints[bit] == null ? 0 : 1 << bit;
+            }
+            writeByte(mask);
+            for (Integer value : ints) {
+                if (value != null) {
+                    writeVarint((value << 1) ^ (value >> 31));
+                }
+            }
+            if (recipe.getRating() != null) {
+                long bits = Double.doubleToRawLongBits(recipe.getRating());
+                for (int shift = 56; shift >= 0; shift -= 8) {
+                    writeByte((int) (bits >>> shift));
+                }
+            }
+
+            long reference = append();
+            if ((size + 1L) * INDEX_ENTRY_BYTES > index.capacity()) {
+                ByteBuffer grown = allocate(indexBytes(size * 2));
+                grown.put(0, index, 0, size * INDEX_ENTRY_BYTES);
+                index = grown;
+            }
+            index.putLong(size * INDEX_ENTRY_BYTES, id);
+            index.putLong(size * INDEX_ENTRY_BYTES + 8, reference);
+            lastId = id;
+            size++;
+            return this;
+        }
+
+        @Override
+        public OffHeapRecipeCatalog build() {
+            ByteBuffer[] built = chunks.toArray(new ByteBuffer[0]);
+            ByteBuffer builtIndex = index;
+            if (directory == null) {
+                // Direct memory is committed up front; give back the unused tails
+                if (built.length > 0) {
+                    built[built.length - 1] = trim(built[built.length - 1], built[built.length - 1].position());
+                }
+                builtIndex = trim(index, size * INDEX_ENTRY_BYTES);
+            }
+            return new OffHeapRecipeCatalog(size, builtIndex, built, terms.toArray(new String[0]));
+        }
+
+        /**
+         * Copies the record into the current chunk, starting a new chunk when it does not fit.
+         *
+         * @return the chunk number in the high and the offset in the low 32 bits
+         */
+        private long append() {
+            if (recordLength > chunkSize) {
+                throw new IllegalArgumentException("Recipe record of " + recordLength
+                        + " bytes does not fit in a catalog chunk of " + chunkSize + " bytes");
+            }
+            ByteBuffer chunk = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+            if (chunk == null || chunk.remaining() < recordLength) {
+                chunk = allocate(chunkSize);
+                chunks.add(chunk);
+            }
+            long reference = ((long) (chunks.size() - 1) << 32) | chunk.position();
+            chunk.put(record, 0, recordLength);
+            return reference;
+        }
+
+        private ByteBuffer allocate(int bytes) {
+            if (directory == null) {
+                return ByteBuffer.allocateDirect(bytes);
+            }
+            try {
+                Files.createDirectories(directory);
+                Path file = Files.createTempFile(directory, "catalog-", ".chunk");
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+                    // The mapping outlives the file name; the space is reclaimed once the buffer is collected
+                    try {
+                        Files.delete(file);
+                    } catch (IOException e) {
+                        file.toFile().deleteOnExit();
+                    }
+                    return mapped;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not map a catalog chunk in " + directory, e);
+            }
+        }
+
+        private static ByteBuffer trim(ByteBuffer buffer, int used) {
+            ByteBuffer trimmed = ByteBuffer.allocateDirect(Math.max(used, 1));
+            trimmed.put(0, buffer, 0, used);
+            return trimmed;
+        }
+
+        private static int indexBytes(int entries) {
+            long bytes = (long) entries * INDEX_ENTRY_BYTES;
+            if (bytes > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Catalog index cannot hold " + entries + " recipes");
+            }
+            return (int) bytes;
+        }
+
+        private void writeText(String value) {
+            if (value == null) {
+                writeVarint(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length + 1);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, record, recordLength, bytes.length);
+            recordLength += bytes.length;
+        }
+
+        private void writeTexts(List<String> values) {
+            if (values == null) {
+                writeVarint(0);
+                return;
+            }
+            writeVarint(values.size() + 1);
+            values.forEach(this::writeText);
+        }
+
+        private void writeTerm(String term) {
+            if (term == null) {
+                writeVarint(0);
+                return;
+            }
+            Integer code = termCodes.get(term);
+            if (code == null) {
+                code = terms.size();
+                termCodes.put(term, code);
+                terms.add(term);
+            }
+            writeVarint(code + 1);
+        }
+
+        private void writeTerms(List<String> values) {
+            if (values == null) {
+                writeVarint(0);
+                return;
+            }
+            writeVarint(values.size() + 1);
+            values.forEach(this::writeTerm);
+        }
+
+        private void writeVarint(int value) {
+            ensureCapacity(5);
+            while ((value & ~0x7F) != 0) {
+                record[recordLength++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            record[recordLength++] = (byte) value;
+        }
+
+        private void writeByte(int value) {
+            ensureCapacity(1);
+            record[recordLength++] = (byte) value;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (recordLength + extra > record.length) {
+                record = Arrays.copyOf(record, Math.max(recordLength + extra, record.length * 2));
+            }
+        }
+    }
+}
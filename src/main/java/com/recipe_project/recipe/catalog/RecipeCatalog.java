@@ -0,0 +1,70 @@
+package com.recipe_project.recipe.catalog;
+
+import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.dto.RecipeSummaryDTO;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable copy of the whole catalog that reads are served from. Recipes are addressed by
+ * position, in ascending id order; {@link RecipeDTO}s are only built when a response needs them.
+ * Implementations are safe for concurrent readers.
+ */
+public interface RecipeCatalog {
+
+    int size();
+
+    /**
+     * @return the position of the recipe with {@code id}, or -1 if the catalog has none
+     */
+    int indexOf(long id);
+
+    /**
+     * Positions of recipes whose name, cuisine, a tag or an ingredient contains {@code query},
+     * ignoring case; the same predicate as {@code RecipeRepository.SEARCH_PREDICATE}.
+     */
+    int[] search(String query);
+
+    RecipeDTO toDTO(int position);
+
+    RecipeSummaryDTO toSummaryDTO(int position);
+
+    /**
+     * Every recipe in position order, as an unmodifiable list. Implementations may return the same
+     * list on every call.
+     */
+    default List<RecipeDTO> all() {
+        RecipeDTO[] all = new RecipeDTO[size()];
+        for (int position = 0; position < all.length; position++) {
+            all[position] = toDTO(position);
+        }
+        return Collections.unmodifiableList(Arrays.asList(all));
+    }
+
+    /**
+     * Summaries of every recipe in position order, as an unmodifiable list. Implementations may
+     * return the same list on every call.
+     */
+    default List<RecipeSummaryDTO> allSummaries() {
+        RecipeSummaryDTO[] all = new RecipeSummaryDTO[size()];
+        for (int position = 0; position < all.length; position++) {
+            all[position] = toSummaryDTO(position);
+        }
+        return Collections.unmodifiableList(Arrays.asList(all));
+    }
+
+    interface Builder {
+
+        /**
+         * Appends {@code recipe} under {@code id}, ignoring {@link RecipeDTO#getId()} so upstream
+         * DTOs can be added with the ids the database assigned them.
+         *
+         * @throws IllegalArgumentException if {@code id} is not greater than the previous id
+         */
+        Builder add(long id, RecipeDTO recipe);
+
+        RecipeCatalog build();
+    }
+}
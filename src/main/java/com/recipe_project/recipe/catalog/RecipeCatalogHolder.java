@@ -0,0 +1,87 @@
+package com.recipe_project.recipe.catalog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * The {@link RecipeCatalog} that reads are served from. A load publishes a new catalog when its
+ * transaction commits, so readers never see recipes that were rolled back; until the first
+ * publish, reads go to the database. {@code recipe.catalog.read-model.store} chooses whether new
+ * catalogs are built on the heap or, for catalogs too large to keep there, off-heap.
+ */
+@Component
+public class RecipeCatalogHolder {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecipeCatalogHolder.class);
+
+    public enum Store {
+        /** Columnar arrays on the heap; see {@link HeapRecipeCatalog}. */
+        HEAP,
+        /** Serialized records in direct memory or memory-mapped files; see {@link OffHeapRecipeCatalog}. */
+        OFF_HEAP
+    }
+
+    private final boolean enabled;
+    private final Store store;
+    private final Path offHeapDirectory;
+    private final int offHeapChunkSize;
+    private volatile RecipeCatalog current;
+
+    public RecipeCatalogHolder(@Value("${recipe.catalog.read-model.enabled:true}") boolean enabled,
+                               @Value("${recipe.catalog.read-model.store:heap}") Store store,
+                               @Value("${recipe.catalog.read-model.off-heap.directory:}") String offHeapDirectory,
+                               @Value("${recipe.catalog.read-model.off-heap.chunk-size:64MB}") DataSize offHeapChunkSize) {
+        this.enabled = enabled;
+        this.store = store;
+        this.offHeapDirectory = StringUtils.hasText(offHeapDirectory) ? Path.of(offHeapDirectory) : null;
+        this.offHeapChunkSize = Math.toIntExact(offHeapChunkSize.toBytes());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * A builder for the configured store.
+     */
+    public RecipeCatalog.Builder builder(int expectedSize) {
+        return switch (store) {
+            case HEAP -> HeapRecipeCatalog.builder(expectedSize);
+            case OFF_HEAP -> OffHeapRecipeCatalog.builder(expectedSize, offHeapDirectory, offHeapChunkSize);
+        };
+    }
+
+    public Optional<RecipeCatalog> current() {
+        return Optional.ofNullable(current);
+    }
+
+    /**
+     * Replaces the current catalog, after the surrounding transaction commits if there is one.
+     */
+    public void publish(RecipeCatalog catalog) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    swap(catalog);
+                }
+            });
+        } else {
+            swap(catalog);
+        }
+    }
+
+    private void swap(RecipeCatalog catalog) {
+        current = catalog;
+        logger.info("Serving reads from a catalog of {} recipes ({} store)", catalog.size(), store.name().toLowerCase());
+    }
+}
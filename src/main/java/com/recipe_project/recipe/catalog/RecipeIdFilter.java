@@ -0,0 +1,111 @@
+package com.recipe_project.recipe.catalog;
+
+/**
+ * Immutable set of the recipe ids in one catalog, cheap enough to consult before every lookup so
+ * that ids the catalog never had are turned away without a query. Ids from the database sequence
+ * are nearly dense, so they are normally kept exactly, one bit per id between the smallest and the
+ * largest. When they are too sparse for that to be small, a Bloom filter takes over, which may
+ * admit about one unknown id in a hundred but never rejects a known one.
+ */
+public final class RecipeIdFilter {
+
+    // Above this many bits per id, a Bloom filter is smaller than the exact bitset
+    private static final int MAX_BITS_PER_ID = 16;
+    private static final int BLOOM_BITS_PER_ID = 10;
+    private static final int BLOOM_HASHES = 7;
+
+    private final long[] words;
+    private final long minId;
+    private final long bitCount;
+    private final boolean exact;
+    private final int size;
+
+    private RecipeIdFilter(long[] words, long minId, long bitCount, boolean exact, int size) {
+        this.words = words;
+        this.minId = minId;
+        this.bitCount = bitCount;
+        this.exact = exact;
+        this.size = size;
+    }
+
+    public static RecipeIdFilter of(long[] ids) {
+        if (ids.length == 0) {
+            return new RecipeIdFilter(new long[0], 0, 0, true, 0);
+        }
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (long id : ids) {
+            min = Math.min(min, id);
+            max = Math.max(max, id);
+        }
+        long range = max - min + 1;
+        if (range > 0 && range <= Math.max(Long.SIZE, (long) ids.length * MAX_BITS_PER_ID)) {
+            long[] words = new long[wordsFor(range)];
+            for (long id : ids) {
+                set(words, id - min);
+            }
+            return new RecipeIdFilter(words, min, range, true, ids.length);
+        }
+
+        long bits = (long) ids.length * BLOOM_BITS_PER_ID;
+        long[] words = new long[wordsFor(bits)];
+        bits = (long) words.length * Long.SIZE;
+        for (long id : ids) {
+            long hash = mix(id);
+            int step = (int) (hash >>> 32) | 1;
+            for (int i = 0; i < BLOOM_HASHES; i++) {
+                set(words, Math.floorMod((int) hash + (long) i * step, bits));
+            }
+        }
+        return new RecipeIdFilter(words, 0, bits, false, ids.length);
+    }
+
+    /**
+     * False only when {@code id} is certainly not in the catalog.
+     */
+    public boolean mightContain(long id) {
+        if (exact) {
+            long offset = id - minId;
+            return offset >= 0 && offset < bitCount && isSet(words, offset);
+        }
+        long hash = mix(id);
+        int step = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            if (!isSet(words, Math.floorMod((int) hash + (long) i * step, bitCount))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether {@link #mightContain} answers exactly rather than with the odd false positive.
+     */
+    public boolean isExact() {
+        return exact;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static int wordsFor(long bits) {
+        return Math.toIntExact((bits + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    private static void set(long[] words, long bit) {
+        words[(int) (bit >>> 6)] |= 1L << bit;
+    }
+
+    private static boolean isSet(long[] words, long bit) {
+        return (words[(int) (bit >>> 6)] & (1L << bit)) != 0;
+    }
+
+    // SplitMix64 finalizer: sequential ids land on unrelated bits
+    private static long mix(long id) {
+        long z = id + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
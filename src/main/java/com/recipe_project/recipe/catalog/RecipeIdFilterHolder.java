@@ -0,0 +1,63 @@
+package com.recipe_project.recipe.catalog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The {@link RecipeIdFilter} of the stored catalog, which id lookups consult before the read
+ * model or the database. Like {@link RecipeCatalogHolder}, a load publishes its filter when its
+ * transaction commits; until the first publish every id might exist. It is kept whether or not
+ * the read model is enabled, since lookups that go to the database gain the most from it.
+ */
+@Component
+public class RecipeIdFilterHolder {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecipeIdFilterHolder.class);
+
+    private final boolean enabled;
+    private volatile RecipeIdFilter current;
+
+    public RecipeIdFilterHolder(@Value("${recipe.catalog.id-filter.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * False only when {@code id} is certainly not in the stored catalog.
+     */
+    public boolean mightContain(long id) {
+        RecipeIdFilter filter = current;
+        return filter == null || filter.mightContain(id);
+    }
+
+    /**
+     * Replaces the current filter, after the surrounding transaction commits if there is one.
+     */
+    public void publish(RecipeIdFilter filter) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    swap(filter);
+                }
+            });
+        } else {
+            swap(filter);
+        }
+    }
+
+    private void swap(RecipeIdFilter filter) {
+        current = filter;
+        logger.info("Filtering recipe ids against {} known ids ({})", filter.size(), filter.isExact() ? "exact" : "bloom");
+    }
+}
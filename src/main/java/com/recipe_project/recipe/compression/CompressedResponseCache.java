@@ -0,0 +1,142 @@
+package com.recipe_project.recipe.compression;
+
+import com.recipe_project.recipe.catalog.RecipeCatalog;
+import com.recipe_project.recipe.catalog.RecipeCatalogHolder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compressed response bodies for the current catalog generation. Entries are only valid for
+ * the {@link RecipeCatalog} they were rendered from; the first access after
+ * {@link RecipeCatalogHolder} publishes a new catalog drops them all, so compression runs once
+ * per reload rather than per request. Nothing is cached while the read model is disabled, since
+ * there is then no generation to tie entries to.
+ * <p>
+ * Full-catalog responses are cached on first use. Anything else, such as a recipe detail, is
+ * cached once it has been requested {@code popularAfter} times in the generation. A generation
+ * holds at most {@code maxEntries} entries of together at most {@code maxBytes} compressed bytes,
+ * since every variant of a large response is another copy of it.
+ */
+public class CompressedResponseCache {
+
+    /**
+     * A status 200 response ready to replay: its headers other than the length and encoding, and
+     * the compressed body.
+     */
+    public record Entry(String contentType, Map<String, List<String>> headers, byte[] body) {
+    }
+
+    private final RecipeCatalogHolder catalogHolder;
+    private final int popularAfter;
+    private final int maxEntries;
+    private final long maxBytes;
+    private volatile Generation generation = new Generation(null);
+
+    public CompressedResponseCache(RecipeCatalogHolder catalogHolder, int popularAfter, int maxEntries, long maxBytes) {
+        this.catalogHolder = catalogHolder;
+        this.popularAfter = popularAfter;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * The catalog a response rendered now would come from, to pass to {@link #put}; null when
+     * there is none.
+     */
+    public RecipeCatalog catalog() {
+        return catalogHolder.current().orElse(null);
+    }
+
+    public Entry get(String key, ContentEncoding encoding) {
+        Generation current = generation();
+        return current == null ? null : current.entries.get(entryKey(key, encoding));
+    }
+
+    /**
+     * Counts a request for {@code key} and tells whether its response should be cached.
+     *
+     * @param fullCatalog whether the response lists the whole catalog, which is always cached
+     */
+    public boolean admit(String key, boolean fullCatalog) {
+        Generation current = generation();
+        if (current == null || current.entries.size() >= maxEntries || current.bytes.get() >= maxBytes) {
+            return false;
+        }
+        if (fullCatalog) {
+            return true;
+        }
+        // Stop tracking new keys once there are far more candidates than room for them
+        AtomicInteger requests = current.requests.size() < maxEntries * 4
+                ? current.requests.computeIfAbsent(key, k -> new AtomicInteger())
+                : current.requests.get(key);
+        return requests != null && requests.incrementAndGet() >= popularAfter;
+    }
+
+    /**
+     * Stores {@code entry} unless the catalog has been replaced since it was rendered from
+     * {@code renderedFrom} or its body does not fit in what is left of the byte budget.
+     */
+    public void put(RecipeCatalog renderedFrom, String key, ContentEncoding encoding, Entry entry) {
+        Generation current = generation();
+        if (current == null || current.catalog != renderedFrom) {
+            return;
+        }
+        int length = entry.body().length;
+        // Reserve the bytes before storing, so concurrent puts cannot overshoot the budget together
+        if (current.bytes.addAndGet(length) > maxBytes
+                || current.entries.putIfAbsent(entryKey(key, encoding), entry) != null) {
+            current.bytes.addAndGet(-length);
+        }
+    }
+
+    public int size() {
+        Generation current = generation();
+        return current == null ? 0 : current.entries.size();
+    }
+
+    /**
+     * Compressed bytes held by the current generation.
+     */
+    public long bytes() {
+        Generation current = generation();
+        return current == null ? 0 : current.bytes.get();
+    }
+
+    private Generation generation() {
+        RecipeCatalog catalog = catalog();
+        if (catalog == null) {
+            return null;
+        }
+        Generation current = generation;
+        if (current.catalog != catalog) {
+            synchronized (this) {
+                current = generation;
+                if (current.catalog != catalog) {
+                    current = new Generation(catalog);
+                    generation = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static String entryKey(String key, ContentEncoding encoding) {
+        return encoding.token() + ' ' + key;
+    }
+
+    private static final class Generation {
+
+        private final RecipeCatalog catalog;
+        private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+        private final AtomicLong bytes = new AtomicLong();
+
+        private Generation(RecipeCatalog catalog) {
+            this.catalog = catalog;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.recipe_project.recipe.compression;
+
+import com.recipe_project.recipe.catalog.RecipeCatalog;
+import com.recipe_project.recipe.dto.RecipeFieldSet;
+import com.recipe_project.recipe.metrics.RecipeMetrics;
+import com.recipe_project.recipe.metrics.SqlProfilingFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Compresses {@code GET} responses of the recipe API with the best {@link ContentEncoding} the
+ * client accepts, once the body reaches the minimum size. Bodies the
+ * {@link CompressedResponseCache} admits are compressed at the thorough level and replayed to
+ * later requests without running the controller or the compressor again; everything else is
+ * compressed per request at the fast level.
+ * <p>
+ * The cache key covers the path, query and the request headers the response varies on, so a
+ * client asking for another media type or origin never gets someone else's bytes. Only the full
+ * catalog without a query, or with a {@code fields} value the controller knows, skips the
+ * popularity check; made-up query strings are counted like any other response.
+ */
+public class CompressionFilter extends OncePerRequestFilter {
+
+    public static final String CACHE_NAME = "compressed-responses";
+
+    private static final String FULL_CATALOG_PATH = "/api/recipes";
+    private static final Set<String> FULL_CATALOG_QUERIES = Stream.concat(Stream.of(""),
+                    Arrays.stream(RecipeFieldSet.values()).map(fields -> "fields=" + fields.name().toLowerCase(Locale.ROOT)))
+            .collect(Collectors.toUnmodifiableSet());
+
+    private final CompressedResponseCache cache;
+    private final RecipeMetrics recipeMetrics;
+    private final Set<ContentEncoding> encodings;
+    private final int minResponseSize;
+
+    public CompressionFilter(CompressedResponseCache cache, RecipeMetrics recipeMetrics,
+                             Set<ContentEncoding> encodings, int minResponseSize) {
+        this.cache = cache;
+        this.recipeMetrics = recipeMetrics;
+        this.encodings = encodings;
+        this.minResponseSize = minResponseSize;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentEncoding encoding = HttpMethod.GET.matches(request.getMethod())
+                ? ContentEncoding.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING), encodings)
+                : null;
+        if (encoding == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = cacheKey(request);
+        RecipeCatalog catalog = cache.catalog();
+        if (catalog != null) {
+            CompressedResponseCache.Entry cached = cache.get(key, encoding);
+            recipeMetrics.recordCacheAccess(CACHE_NAME, cached != null);
+            if (cached != null) {
+                cached.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+                writeCompressed(response, encoding, cached.contentType(), cached.body());
+                return;
+            }
+        }
+
+        // Headers set by outer filters, such as rate-limit counters, belong to this request only
+        Set<String> outerHeaders = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        outerHeaders.addAll(response.getHeaderNames());
+        ContentCachingResponseWrapper bufferedResponse = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, bufferedResponse);
+
+        if (bufferedResponse.getStatus() != HttpServletResponse.SC_OK
+                || bufferedResponse.getContentSize() < minResponseSize
+                || bufferedResponse.containsHeader(HttpHeaders.CONTENT_ENCODING)) {
+            bufferedResponse.copyBodyToResponse();
+            return;
+        }
+
+        byte[] body = bufferedResponse.getContentAsByteArray();
+        boolean cacheable = catalog != null && cache.admit(key, isFullCatalog(request));
+        byte[] compressed = encoding.compress(body, cacheable ? encoding.cachedLevel() : encoding.dynamicLevel());
+        String contentType = bufferedResponse.getContentType();
+        if (cacheable) {
+            cache.put(catalog, key, encoding, new CompressedResponseCache.Entry(contentType, headers(bufferedResponse, outerHeaders), compressed));
+        }
+        // The wrapped response already carries the controller's headers
+        writeCompressed(response, encoding, contentType, compressed);
+    }
+
+    private static void writeCompressed(HttpServletResponse response, ContentEncoding encoding, String contentType,
+                                        byte[] compressed) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        if (contentType != null) {
+            response.setContentType(contentType);
+        }
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding.token());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setContentLength(compressed.length);
+        response.getOutputStream().write(compressed);
+    }
+
+    /**
+     * The headers the controller and inner filters added, to be replayed with the cached body.
+     * Headers that were already set before the chain ran and the per-request SQL profile are
+     * left out, since their values would be stale on the next request.
+     */
+    private static Map<String, List<String>> headers(HttpServletResponse response, Set<String> outerHeaders) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && !HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)
+                    && !HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) && !headers.containsKey(name)
+                    && !outerHeaders.contains(name)
+                    && !name.regionMatches(true, 0, SqlProfilingFilter.HEADER_PREFIX, 0, SqlProfilingFilter.HEADER_PREFIX.length())) {
+                headers.put(name, List.copyOf(response.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+
+    private static boolean isFullCatalog(HttpServletRequest request) {
+        return FULL_CATALOG_PATH.equals(request.getRequestURI())
+                && FULL_CATALOG_QUERIES.contains(nullToEmpty(request.getQueryString()));
+    }
+
+    private static String cacheKey(HttpServletRequest request) {
+        return request.getRequestURI()
+                + '?' + nullToEmpty(request.getQueryString())
+                + '\n' + nullToEmpty(request.getHeader(HttpHeaders.ACCEPT))
+                + '\n' + nullToEmpty(request.getHeader(HttpHeaders.ORIGIN));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,116 @@
+package com.recipe_project.recipe.compression;
+
+import com.github.luben.zstd.Zstd;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The response encodings {@link CompressionFilter} produces, in order of preference. Each has a
+ * fast level for responses compressed per request and a thorough one for payloads compressed
+ * once and cached. Brotli is not offered: the JDK has no encoder and the native bindings ship a
+ * separate artifact per platform, where zstd-jni bundles them all.
+ */
+public enum ContentEncoding {
+
+    // Levels above 12 shrink a catalog payload by a few percent more at several times the cost,
+    // and a cached payload is still compressed on a request thread
+    ZSTD("zstd", 3, 12) {
+        @Override
+        public byte[] compress(byte[] body, int level) {
+            return Zstd.compress(body, level);
+        }
+    },
+
+    GZIP("gzip", 6, 9) {
+        @Override
+        public byte[] compress(byte[] body, int level) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed) {
+                {
+                    def.setLevel(level);
+                }
+            }) {
+                gzip.write(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return compressed.toByteArray();
+        }
+    };
+
+    private final String token;
+    private final int dynamicLevel;
+    private final int cachedLevel;
+
+    ContentEncoding(String token, int dynamicLevel, int cachedLevel) {
+        this.token = token;
+        this.dynamicLevel = dynamicLevel;
+        this.cachedLevel = cachedLevel;
+    }
+
+    /**
+     * The {@code Content-Encoding} value.
+     */
+    public String token() {
+        return token;
+    }
+
+    public int dynamicLevel() {
+        return dynamicLevel;
+    }
+
+    public int cachedLevel() {
+        return cachedLevel;
+    }
+
+    public abstract byte[] compress(byte[] body, int level);
+
+    /**
+     * The most preferred of {@code available} that {@code acceptEncoding} accepts, or null.
+     * Codings with {@code q=0} are refused; other weights are ignored in favour of this enum's
+     * order, since every offered coding is lossless.
+     */
+    public static ContentEncoding negotiate(String acceptEncoding, Set<ContentEncoding> available) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+        boolean wildcard = false;
+        Set<String> accepted = new HashSet<>();
+        Set<String> refused = new HashSet<>();
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean zeroWeight = false;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        zeroWeight = Double.parseDouble(parameter.substring(2)) == 0;
+                    } catch (NumberFormatException e) {
+                        zeroWeight = true;
+                    }
+                }
+            }
+            if (zeroWeight) {
+                refused.add(name);
+            } else if (name.equals("*")) {
+                wildcard = true;
+            } else {
+                accepted.add(name);
+            }
+        }
+        for (ContentEncoding encoding : values()) {
+            if (available.contains(encoding) && !refused.contains(encoding.token)
+                    && (accepted.contains(encoding.token) || wildcard)) {
+                return encoding;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,54 @@
+package com.recipe_project.recipe.config;
+
+import com.recipe_project.recipe.admission.AdaptiveConcurrencyLimit;
+import com.recipe_project.recipe.admission.AdmissionControlFilter;
+import com.recipe_project.recipe.admission.EndpointClass;
+import com.recipe_project.recipe.metrics.RecipeMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load shedding for the {@code /api/recipes} endpoints; see {@link AdmissionControlFilter}. Each
+ * {@link EndpointClass} gets an adaptive limit between one and
+ * {@code recipe.admission.<class>.max-limit}, starting at a quarter of the maximum. Reloads are
+ * held at their maximum, one by default, since a second concurrent load only repeats the first.
+ * The filter is registered here rather than as a {@code @Component} so that
+ * {@code @WebMvcTest} slices do not pick it up.
+ */
+@Configuration
+@ConditionalOnProperty(name = "recipe.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig {
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+            RecipeMetrics recipeMetrics,
+            @Value("${recipe.admission.detail.max-limit:100}") int detailMaxLimit,
+            @Value("${recipe.admission.list.max-limit:20}") int listMaxLimit,
+            @Value("${recipe.admission.search.max-limit:8}") int searchMaxLimit,
+            @Value("${recipe.admission.reload.max-limit:1}") int reloadMaxLimit) {
+        Map<EndpointClass, AdaptiveConcurrencyLimit> limits = new EnumMap<>(EndpointClass.class);
+        limits.put(EndpointClass.DETAIL, adaptive(detailMaxLimit));
+        limits.put(EndpointClass.LIST, adaptive(listMaxLimit));
+        limits.put(EndpointClass.SEARCH, adaptive(searchMaxLimit));
+        limits.put(EndpointClass.RELOAD, new AdaptiveConcurrencyLimit(reloadMaxLimit, reloadMaxLimit, reloadMaxLimit));
+        limits.forEach((endpointClass, limit) -> recipeMetrics.registerAdmissionLimit(endpointClass.tagValue(), limit));
+
+        FilterRegistrationBean<AdmissionControlFilter> registration =
+                new FilterRegistrationBean<>(new AdmissionControlFilter(limits, recipeMetrics));
+        registration.addUrlPatterns("/api/recipes/*");
+        // Inside compression, so cached responses are replayed without taking a slot
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return registration;
+    }
+
+    private static AdaptiveConcurrencyLimit adaptive(int maxLimit) {
+        return new AdaptiveConcurrencyLimit(Math.max(1, maxLimit / 4), 1, maxLimit);
+    }
+}
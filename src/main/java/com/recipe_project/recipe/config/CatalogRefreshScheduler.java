@@ -0,0 +1,37 @@
+package com.recipe_project.recipe.config;
+
+import com.recipe_project.recipe.service.RecipeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically reloads the catalog from the external API when
+ * {@code recipe.catalog.refresh.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "recipe.catalog.refresh.enabled", havingValue = "true")
+public class CatalogRefreshScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogRefreshScheduler.class);
+
+    private final RecipeService recipeService;
+
+    public CatalogRefreshScheduler(RecipeService recipeService) {
+        this.recipeService = recipeService;
+    }
+
+    @Scheduled(initialDelayString = "${recipe.catalog.refresh.interval:6h}",
+               fixedDelayString = "${recipe.catalog.refresh.interval:6h}")
+    public void refreshCatalog() {
+        logger.info("Scheduled catalog refresh starting on {}", Thread.currentThread());
+        try {
+            int loadedRecipes = recipeService.loadRecipesFromExternalApi();
+            logger.info("Scheduled catalog refresh loaded {} recipes", loadedRecipes);
+        } catch (Exception e) {
+            logger.error("Scheduled catalog refresh failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.recipe_project.recipe.config;
+
+import com.recipe_project.recipe.repository.CatalogSchemaGuard;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Checks the layout version of a persistent catalog database before Hibernate's
+ * {@code ddl-auto=update} touches it; see {@link CatalogSchemaGuard}. On in the persistent
+ * profile, where the database outlives the build that created it.
+ */
+@Configuration
+@ConditionalOnProperty(name = "recipe.catalog.schema-check.enabled", havingValue = "true")
+public class CatalogSchemaConfig {
+
+    @Bean
+    public CatalogSchemaGuard catalogSchemaGuard(DataSource dataSource) {
+        CatalogSchemaGuard guard = new CatalogSchemaGuard(dataSource);
+        guard.verify();
+        return guard;
+    }
+
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor catalogSchemaGuardDependency() {
+        return new EntityManagerFactoryDependsOnPostProcessor("catalogSchemaGuard");
+    }
+}
@@ -0,0 +1,68 @@
+package com.recipe_project.recipe.config;
+
+import com.github.luben.zstd.util.Native;
+import com.recipe_project.recipe.catalog.RecipeCatalogHolder;
+import com.recipe_project.recipe.compression.CompressedResponseCache;
+import com.recipe_project.recipe.compression.CompressionFilter;
+import com.recipe_project.recipe.compression.ContentEncoding;
+import com.recipe_project.recipe.metrics.RecipeMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Response compression for the {@code /api/recipes} endpoints, with compressed catalog payloads
+ * cached per catalog generation; see {@link CompressionFilter}. Other endpoints are compressed by
+ * the server itself ({@code server.compression.*}), which leaves responses that already carry a
+ * {@code Content-Encoding} alone. The filter is registered here rather than as a
+ * {@code @Component} so that {@code @WebMvcTest} slices do not pick it up.
+ */
+@Configuration
+@ConditionalOnProperty(name = "recipe.compression.enabled", havingValue = "true", matchIfMissing = true)
+public class CompressionConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompressionConfig.class);
+
+    @Bean
+    public CompressedResponseCache compressedResponseCache(
+            RecipeCatalogHolder catalogHolder,
+            @Value("${recipe.compression.cache.popular-after:2}") int popularAfter,
+            @Value("${recipe.compression.cache.max-entries:1024}") int maxEntries,
+            @Value("${recipe.compression.cache.max-bytes:64MB}") DataSize maxBytes) {
+        return new CompressedResponseCache(catalogHolder, popularAfter, maxEntries, maxBytes.toBytes());
+    }
+
+    @Bean
+    public FilterRegistrationBean<CompressionFilter> compressionFilter(
+            CompressedResponseCache compressedResponseCache,
+            RecipeMetrics recipeMetrics,
+            @Value("${server.compression.min-response-size:2KB}") DataSize minResponseSize) {
+        FilterRegistrationBean<CompressionFilter> registration = new FilterRegistrationBean<>(new CompressionFilter(
+                compressedResponseCache, recipeMetrics, availableEncodings(), Math.toIntExact(minResponseSize.toBytes())));
+        registration.addUrlPatterns("/api/recipes/*");
+        // API filters run rate limiting, then compression, then admission control and SQL
+        // profiling, so the inner filters see the uncompressed body and cached responses skip
+        // them, while every request still counts against its client's rate limit
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 2);
+        return registration;
+    }
+
+    private static Set<ContentEncoding> availableEncodings() {
+        try {
+            Native.load();
+            return EnumSet.allOf(ContentEncoding.class);
+        } catch (LinkageError e) {
+            logger.warn("zstd native library unavailable on this platform, compressing with gzip only: {}", e.getMessage());
+            return EnumSet.of(ContentEncoding.GZIP);
+        }
+    }
+}
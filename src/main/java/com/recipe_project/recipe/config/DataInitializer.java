@@ -1,42 +1,84 @@
 package com.recipe_project.recipe.config;
 
+import com.recipe_project.recipe.health.CatalogInitialization;
+import com.recipe_project.recipe.health.CatalogInitialization.Phase;
 import com.recipe_project.recipe.service.RecipeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
+/**
+ * Loads the catalog once the application is up, on the async executor so the HTTP port opens
+ * immediately. Readiness reports out of service until the load finishes; see
+ * {@link com.recipe_project.recipe.health.CatalogHealthIndicator}.
+ */
 @Component
+@ConditionalOnProperty(name = "recipe.catalog.initialize-on-startup", havingValue = "true", matchIfMissing = true)
 public class DataInitializer {
 
     private static final Logger logger = LoggerFactory.getLogger(DataInitializer.class);
-    
+
     private final RecipeService recipeService;
-    
-    public DataInitializer(RecipeService recipeService) {
+    private final CatalogInitialization initialization;
+
+    @Value("${recipe.catalog.max-age:0s}")
+    private Duration maxAge;
+
+    @Value("${recipe.catalog.snapshot.max-age:24h}")
+    private Duration snapshotMaxAge;
+
+    public DataInitializer(RecipeService recipeService, CatalogInitialization initialization) {
         this.recipeService = recipeService;
-    }    @EventListener(ApplicationReadyEvent.class)
+        this.initialization = initialization;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
     public void initializeData() {
-        logger.info("Starting data initialization from external API");
-        
         try {
-            // Small delay to ensure all components are fully initialized
-            Thread.sleep(1000);
-            
-            int loadedRecipes = recipeService.loadRecipesFromExternalApi();
-            logger.info("Successfully initialized {} recipes from external API", loadedRecipes);
-            
-        } catch (InterruptedException e) {
-            logger.warn("Data initialization was interrupted");
-            Thread.currentThread().interrupt();
+            if (initialization.phase(Phase.CHECKING_STORED_CATALOG, () -> recipeService.isCatalogFresh(maxAge))) {
+                logger.info("Stored catalog was loaded within {}; skipping the upstream fetch", maxAge);
+                recipeService.rebuildReadModel();
+                initialization.ready("stored catalog");
+                return;
+            }
+            int restoredRecipes = initialization.phase(Phase.RESTORING_SNAPSHOT, this::restoreSnapshot);
+            if (restoredRecipes > 0) {
+                logger.info("Restored {} recipes from the catalog snapshot; skipping the upstream fetch", restoredRecipes);
+                initialization.ready("snapshot");
+                return;
+            }
+
+            logger.info("Starting data initialization from external API");
+            int loadedRecipes = initialization.phase(Phase.FETCHING_UPSTREAM, recipeService::loadRecipesFromExternalApi);
+            if (loadedRecipes > 0) {
+                logger.info("Successfully initialized {} recipes from external API", loadedRecipes);
+                initialization.ready("external API");
+            } else {
+                initialization.failed("External API returned no recipes");
+            }
         } catch (Exception e) {
             logger.error("Error loading recipes during startup: {}", e.getMessage());
             logger.debug("Full error details: ", e);
+            initialization.failed(e.getMessage());
             // Don't fail startup if external API is unavailable
             logger.info("Application will continue without initial recipe data. Use POST /api/recipes/load to load data manually.");
         }
     }
 
-
+    private int restoreSnapshot() {
+        try {
+            return recipeService.restoreFromSnapshot(snapshotMaxAge);
+        } catch (Exception e) {
+            logger.warn("Restoring the catalog snapshot failed, falling back to the upstream fetch: {}", e.getMessage());
+            return 0;
+        }
+    }
 }
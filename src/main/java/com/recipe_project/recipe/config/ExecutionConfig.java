@@ -0,0 +1,16 @@
+package com.recipe_project.recipe.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Async} and {@code @Scheduled} on the auto-configured executors.
+ * Both executors switch to virtual threads together with the Tomcat request
+ * executor when {@code spring.threads.virtual.enabled=true} on Java 21+.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class ExecutionConfig {
+}
@@ -0,0 +1,33 @@
+package com.recipe_project.recipe.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.util.RecipeDTOSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Modules that Boot registers in the application's {@code ObjectMapper}, which serves both the
+ * MVC and WebFlux endpoints and decodes the upstream catalog. Setting
+ * {@code recipe.json.fast-codec.enabled=false} falls back to Jackson's reflection-based defaults.
+ */
+@Configuration
+@ConditionalOnProperty(name = "recipe.json.fast-codec.enabled", havingValue = "true", matchIfMissing = true)
+public class JacksonConfig {
+
+    /**
+     * Replaces reflective getter, setter and constructor calls with generated lambdas.
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public Module recipeJsonModule() {
+        return new SimpleModule("recipe-json").addSerializer(RecipeDTO.class, new RecipeDTOSerializer());
+    }
+}
@@ -0,0 +1,58 @@
+package com.recipe_project.recipe.config;
+
+import com.recipe_project.recipe.metrics.RecipeMetrics;
+import com.recipe_project.recipe.ratelimit.RateLimitFilter;
+import com.recipe_project.recipe.ratelimit.TokenBucketStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Per-client rate limiting for the {@code /api/recipes} endpoints; see {@link RateLimitFilter}.
+ * Each client may burst up to {@code recipe.rate-limit.capacity} requests and then sustain
+ * {@code recipe.rate-limit.refill-per-second}. Off by default, since a deployment behind a proxy
+ * must forward client addresses before per-address limits mean anything. The filter is
+ * registered here rather than as a {@code @Component} so that {@code @WebMvcTest} slices do not
+ * pick it up.
+ */
+@Configuration
+@ConditionalOnProperty(name = "recipe.rate-limit.enabled", havingValue = "true")
+public class RateLimitConfig {
+
+    @Bean
+    public TokenBucketStore rateLimitBuckets(
+            RecipeMetrics recipeMetrics,
+            @Value("${recipe.rate-limit.capacity:40}") long capacity,
+            @Value("${recipe.rate-limit.refill-per-second:20}") double refillPerSecond,
+            @Value("${recipe.rate-limit.max-clients:100000}") int maxClients) {
+        TokenBucketStore store = new TokenBucketStore(capacity, refillPerSecond, maxClients, System::nanoTime);
+        recipeMetrics.registerRateLimitStore(store);
+        return store;
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            TokenBucketStore rateLimitBuckets,
+            RecipeMetrics recipeMetrics,
+            @Value("${recipe.rate-limit.api-key-header:X-API-Key}") String apiKeyHeader,
+            @Value("${recipe.rate-limit.api-keys:}") String apiKeys) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(new RateLimitFilter(
+                rateLimitBuckets, recipeMetrics, apiKeyHeader,
+                Arrays.stream(StringUtils.commaDelimitedListToStringArray(apiKeys))
+                        .map(String::trim)
+                        .filter(StringUtils::hasText)
+                        .collect(Collectors.toSet())));
+        registration.addUrlPatterns("/api/recipes/*");
+        // Outside compression and admission control, so a throttled client neither gets cached
+        // responses replayed nor takes a concurrency slot
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 3);
+        return registration;
+    }
+}
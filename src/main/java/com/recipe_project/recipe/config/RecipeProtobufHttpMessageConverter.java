@@ -0,0 +1,142 @@
+package com.recipe_project.recipe.config;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.dto.RecipeSummaryDTO;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Writes {@link RecipeDTO}s and {@link RecipeSummaryDTO}s, singly or as lists, as Protocol
+ * Buffers. Jackson derives the schema from the DTOs, numbering fields in JSON property order;
+ * a list is a {@link RecipeList} or {@link RecipeSummaryList} message, and null values are
+ * simply absent. Callers get the {@code .proto} text from
+ * {@code new ProtobufMapper().generateSchemaFor(RecipeList.class).getSource()}. Write-only: the
+ * API takes no recipe payloads.
+ */
+public class RecipeProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = MediaType.valueOf(WireFormatConfig.APPLICATION_PROTOBUF_VALUE);
+
+    public record RecipeList(List<RecipeDTO> recipes) {
+    }
+
+    public record RecipeSummaryList(List<RecipeSummaryDTO> recipes) {
+    }
+
+    private final ObjectWriter recipeWriter;
+    private final ObjectWriter summaryWriter;
+    private final ObjectWriter recipeListWriter;
+    private final ObjectWriter summaryListWriter;
+
+    /**
+     * @param mapper writes the messages; schemas are generated from a plain {@link ProtobufMapper}
+     *               so custom serializers registered on {@code mapper} need not describe themselves
+     */
+    public RecipeProtobufHttpMessageConverter(ProtobufMapper mapper) {
+        super(APPLICATION_PROTOBUF);
+        ProtobufMapper schemaMapper = new ProtobufMapper();
+        this.recipeWriter = mapper.writer(generateSchema(schemaMapper, RecipeDTO.class));
+        this.summaryWriter = mapper.writer(generateSchema(schemaMapper, RecipeSummaryDTO.class));
+        this.recipeListWriter = mapper.writer(generateSchema(schemaMapper, RecipeList.class));
+        this.summaryListWriter = mapper.writer(generateSchema(schemaMapper, RecipeSummaryList.class));
+    }
+
+    private static ProtobufSchema generateSchema(ProtobufMapper mapper, Class<?> type) {
+        try {
+            return mapper.generateSchemaFor(type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return RecipeDTO.class == clazz || RecipeSummaryDTO.class == clazz || List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        if (!canWrite(mediaType) || !supports(clazz)) {
+            return false;
+        }
+        if (type == null || !List.class.isAssignableFrom(clazz)) {
+            return true;
+        }
+        Class<?> element = ResolvableType.forType(type).asCollection().resolveGeneric(0);
+        return element == RecipeDTO.class || element == RecipeSummaryDTO.class;
+    }
+
+    @Override
+    protected void writeInternal(Object value, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        ObjectWriter writer;
+        Object message;
+        if (value instanceof RecipeDTO) {
+            writer = recipeWriter;
+            message = value;
+        } else if (value instanceof RecipeSummaryDTO) {
+            writer = summaryWriter;
+            message = value;
+        } else {
+            List<?> list = (List<?>) value;
+            if (list.isEmpty()) {
+                // An empty message has no bytes
+                return;
+            }
+            if (list.get(0) instanceof RecipeDTO) {
+                writer = recipeListWriter;
+                message = new RecipeList(elements(list, RecipeDTO.class));
+            } else if (list.get(0) instanceof RecipeSummaryDTO) {
+                writer = summaryListWriter;
+                message = new RecipeSummaryList(elements(list, RecipeSummaryDTO.class));
+            } else {
+                throw new HttpMessageNotWritableException("No protobuf message for a list of " + list.get(0).getClass().getName());
+            }
+        }
+        writer.writeValue(outputMessage.getBody(), message);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> elements(List<?> list, Class<T> type) {
+        for (Object element : list) {
+            if (!type.isInstance(element)) {
+                throw new HttpMessageNotWritableException("Mixed protobuf list of " + type.getName()
+                        + " and " + (element == null ? "null" : element.getClass().getName()));
+            }
+        }
+        return (List<T>) list;
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+}
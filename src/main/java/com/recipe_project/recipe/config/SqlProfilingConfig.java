@@ -0,0 +1,56 @@
+package com.recipe_project.recipe.config;
+
+import com.recipe_project.recipe.metrics.RecipeMetrics;
+import com.recipe_project.recipe.metrics.SqlProfilingEventListener;
+import com.recipe_project.recipe.metrics.SqlProfilingFilter;
+import com.recipe_project.recipe.metrics.SqlProfilingSessionListener;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Per-request SQL profiling for the JPA-backed {@code /api/recipes} endpoints, replacing
+ * {@code spring.jpa.show-sql}. The R2DBC {@code /api/v2} path does not go through Hibernate.
+ * The filter is registered here rather than as a {@code @Component} so that
+ * {@code @WebMvcTest} slices do not pick it up.
+ */
+@Configuration
+@ConditionalOnProperty(name = "recipe.sql-profiling.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlProfilingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlProfilingHibernateProperties() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                SqlProfilingSessionListener.class.getName());
+    }
+
+    @Bean
+    public SqlProfilingEventListener sqlProfilingEventListener(EntityManagerFactory entityManagerFactory) {
+        SqlProfilingEventListener listener = new SqlProfilingEventListener();
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_LOAD, listener);
+        registry.appendListeners(EventType.INIT_COLLECTION, listener);
+        return listener;
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlProfilingFilter> sqlProfilingFilter(
+            RecipeMetrics recipeMetrics,
+            @Value("${recipe.sql-profiling.statement-budget:25}") int statementBudget,
+            @Value("${recipe.sql-profiling.debug-headers:false}") boolean debugHeaders) {
+        FilterRegistrationBean<SqlProfilingFilter> registration =
+                new FilterRegistrationBean<>(new SqlProfilingFilter(recipeMetrics, statementBudget, debugHeaders));
+        registration.addUrlPatterns("/api/recipes/*");
+        return registration;
+    }
+}
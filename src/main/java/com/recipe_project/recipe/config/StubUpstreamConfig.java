@@ -0,0 +1,34 @@
+package com.recipe_project.recipe.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipe_project.recipe.stub.StubRecipeApiServer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Starts the embedded stub of the upstream recipe API when {@code recipe.stub.enabled=true}.
+ * The {@code stub} profile enables it and points {@code external.api.recipes.base-url} at it,
+ * so {@link DataInitializer} loads a synthetic catalog without network access.
+ */
+@Configuration
+@ConditionalOnProperty(name = "recipe.stub.enabled", havingValue = "true")
+public class StubUpstreamConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public StubRecipeApiServer stubRecipeApiServer(
+            ObjectMapper objectMapper,
+            @Value("${recipe.stub.port:8089}") int port,
+            @Value("${recipe.stub.catalog-size:500}") int catalogSize,
+            @Value("${recipe.stub.seed:42}") long seed,
+            @Value("${recipe.stub.latency:0ms}") Duration latency,
+            @Value("${recipe.stub.latency-jitter:0ms}") Duration latencyJitter,
+            @Value("${recipe.stub.failure-rate:0.0}") double failureRate) {
+        return new StubRecipeApiServer(
+                new StubRecipeApiServer.Settings(port, catalogSize, seed, latency, latencyJitter, failureRate),
+                objectMapper);
+    }
+}
@@ -0,0 +1,28 @@
+package com.recipe_project.recipe.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipe_project.recipe.metrics.FileSpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Writes finished spans to a local JSON-lines file when {@code recipe.tracing.file-export.enabled=true}.
+ * Boot's OpenTelemetry auto-configuration batches every {@code SpanExporter} bean, so an OTLP
+ * exporter added alongside this one receives the same spans.
+ */
+@Configuration
+@ConditionalOnProperty(name = "recipe.tracing.file-export.enabled", havingValue = "true")
+public class TracingConfig {
+
+    @Bean
+    public FileSpanExporter fileSpanExporter(
+            ObjectMapper objectMapper,
+            @Value("${recipe.tracing.file-export.path:logs/spans.jsonl}") Path path) throws IOException {
+        return new FileSpanExporter(objectMapper.getFactory(), path);
+    }
+}
@@ -1,32 +1,122 @@
 package com.recipe_project.recipe.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.recipe_project.recipe.metrics.RecipeMetrics;
+import com.recipe_project.recipe.metrics.RecipeTracing;
+import com.recipe_project.recipe.util.StringPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.MimeType;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Configuration
 public class WebClientConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(WebClientConfig.class);
+
     @Value("${external.api.recipes.base-url:https://dummyjson.com}")
     private String baseUrl;
 
     @Value("${external.api.recipes.timeout:30s}")
     private Duration timeout;
 
+    @Value("${external.api.recipes.max-response-size:16MB}")
+    private DataSize maxResponseSize;
+
+    /**
+     * Built from Boot's {@link WebClient.Builder} so client requests are observed and carry the
+     * current trace context ({@code traceparent}) to the upstream API.
+     */
     @Bean
-    public WebClient webClient() {
+    public WebClient webClient(WebClient.Builder builder, ObjectMapper objectMapper,
+                               RecipeMetrics recipeMetrics, RecipeTracing recipeTracing) {
         HttpClient httpClient = HttpClient.create()
                 .responseTimeout(timeout);
 
-        return WebClient.builder()
+        return builder
                 .baseUrl(baseUrl)
                 .clientConnector(new ReactorClientHttpConnector(httpClient)
                 )
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().maxInMemorySize((int) maxResponseSize.toBytes());
+                    codecs.defaultCodecs().jackson2JsonDecoder(new ObservedJsonDecoder(objectMapper, recipeMetrics, recipeTracing));
+                })
+                .filter(responseSizeFilter(recipeMetrics))
                 .build();
     }
+
+    /**
+     * Counts the bytes of each response body as it streams through, so the payload size
+     * is recorded even for chunked responses that carry no Content-Length.
+     */
+    private static ExchangeFilterFunction responseSizeFilter(RecipeMetrics recipeMetrics) {
+        return ExchangeFilterFunction.ofResponseProcessor(response -> {
+            AtomicLong bytes = new AtomicLong();
+            return Mono.just(response.mutate()
+                    .body(body -> body
+                            .doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()))
+                            .doOnComplete(() -> recipeMetrics.recordExternalResponseBytes(bytes.get())))
+                    .build());
+        });
+    }
+
+    /**
+     * Runs the decode of an aggregated JSON body inside a {@code load.decode} stage, separating
+     * Jackson time from network time in the fetch span. Each body is decoded with a fresh
+     * {@link StringPool}, so repeated ingredients, tags and instructions share one instance per
+     * catalog and the pool is released with the decoded catalog.
+     */
+    private static final class ObservedJsonDecoder extends Jackson2JsonDecoder {
+
+        private static final String STRING_POOL_HINT = StringPool.class.getName();
+
+        private final RecipeMetrics recipeMetrics;
+        private final RecipeTracing recipeTracing;
+
+        ObservedJsonDecoder(ObjectMapper objectMapper, RecipeMetrics recipeMetrics, RecipeTracing recipeTracing) {
+            super(objectMapper);
+            this.recipeMetrics = recipeMetrics;
+            this.recipeTracing = recipeTracing;
+        }
+
+        @Override
+        public Object decode(DataBuffer dataBuffer, ResolvableType targetType, MimeType mimeType,
+                             Map<String, Object> hints) throws DecodingException {
+            StringPool pool = new StringPool();
+            Map<String, Object> pooledHints = new HashMap<>(hints);
+            pooledHints.put(STRING_POOL_HINT, pool);
+            Object decoded = recipeTracing.observe(RecipeTracing.LOAD_DECODE,
+                    () -> super.decode(dataBuffer, targetType, mimeType, pooledHints));
+            if (pool.getLookups() > 0) {
+                recipeMetrics.recordIngestBytesSaved(pool.getBytesSaved());
+                WebClientConfig.logger.info("Pooled {} decoded strings into {} distinct values, saving about {} KB",
+                        pool.getLookups(), pool.getDistinct(), pool.getBytesSaved() / 1024);
+            }
+            return decoded;
+        }
+
+        @Override
+        protected ObjectReader customizeReader(ObjectReader reader, ResolvableType elementType, Map<String, Object> hints) {
+            Object pool = hints == null ? null : hints.get(STRING_POOL_HINT);
+            return pool == null ? reader : reader.withAttribute(StringPool.class, pool);
+        }
+    }
 }
@@ -0,0 +1,60 @@
+package com.recipe_project.recipe.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Binary encodings of the API's payloads for server-to-server callers, chosen by the
+ * {@code Accept} header: {@code application/cbor}, {@code application/x-jackson-smile} and
+ * {@code application/x-protobuf}. The converters go after the JSON one, so JSON stays the default
+ * for requests that accept anything. Every mapper comes from Boot's
+ * {@link Jackson2ObjectMapperBuilder}, so the binary formats carry the same modules and
+ * {@code spring.jackson.*} settings as JSON.
+ */
+@Configuration
+public class WireFormatConfig implements WebMvcConfigurer {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final String APPLICATION_PROTOBUF_VALUE = "application/x-protobuf";
+
+    // Boot's builder is prototype-scoped, so each getObject() configures a fresh one
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> builders;
+
+    public WireFormatConfig(ObjectProvider<Jackson2ObjectMapperBuilder> builders) {
+        this.builders = builders;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Spring's own CBOR and Smile converters, when present, use unconfigured mappers
+        replaceOrAdd(converters, new MappingJackson2CborHttpMessageConverter(configure(new CBORMapper())));
+        replaceOrAdd(converters, new MappingJackson2SmileHttpMessageConverter(configure(new SmileMapper())));
+        converters.add(new RecipeProtobufHttpMessageConverter(configure(new ProtobufMapper())));
+    }
+
+    private static void replaceOrAdd(List<HttpMessageConverter<?>> converters, HttpMessageConverter<?> converter) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i).getClass() == converter.getClass()) {
+                converters.set(i, converter);
+                return;
+            }
+        }
+        converters.add(converter);
+    }
+
+    private <M extends ObjectMapper> M configure(M mapper) {
+        builders.getObject().configure(mapper);
+        return mapper;
+    }
+}
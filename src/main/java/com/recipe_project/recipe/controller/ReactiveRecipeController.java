@@ -0,0 +1,44 @@
+package com.recipe_project.recipe.controller;
+
+import com.recipe_project.recipe.config.WireFormatConfig;
+import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.service.ReactiveRecipeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive read API. {@code application/x-ndjson} and {@code text/event-stream} stream one
+ * recipe per element as the database produces them; plain JSON and the binary formats of
+ * {@link WireFormatConfig} are collected into one array or list message.
+ */
+@RestController
+@CrossOrigin(origins = "http://localhost:4200", maxAge = 3600)
+@RequestMapping("/api/v2/recipes")
+public class ReactiveRecipeController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveRecipeController.class);
+
+    private final ReactiveRecipeService reactiveRecipeService;
+
+    public ReactiveRecipeController(ReactiveRecipeService reactiveRecipeService) {
+        this.reactiveRecipeService = reactiveRecipeService;
+        logger.info("ReactiveRecipeController initialized");
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, WireFormatConfig.APPLICATION_SMILE_VALUE, WireFormatConfig.APPLICATION_PROTOBUF_VALUE})
+    public Flux<RecipeDTO> getAllRecipes() {
+        logger.info("Streaming all recipes");
+        return reactiveRecipeService.getAllRecipes();
+    }
+
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<RecipeDTO> getRecipeById(@PathVariable Long id) {
+        logger.info("Fetching recipe with ID: {} (reactive)", id);
+        return reactiveRecipeService.getRecipeById(id);
+    }
+}
@@ -1,6 +1,8 @@
 package com.recipe_project.recipe.controller;
 
 import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.dto.RecipeFieldSet;
+import com.recipe_project.recipe.dto.RecipeSummaryDTO;
 import com.recipe_project.recipe.service.RecipeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,12 +28,21 @@ public class RecipeController {
         this.recipeService = recipeService;
         logger.info("RecipeController initialized");
     }    @GetMapping("/search")
-    public ResponseEntity<List<RecipeDTO>> searchRecipes(@RequestParam(name = "q", required = false) String query) {
+    public ResponseEntity<List<RecipeDTO>> searchRecipes(@RequestParam(name = "q", required = false) String query,
+                                                         @RequestParam(name = "fields", required = false) String fields) {
         logger.info("Searching recipes with query: {}", query);
+        // fields=summary is mapped to searchRecipeSummaries, so any other value but full is rejected
+        RecipeFieldSet.fromParameter(fields);
         List<RecipeDTO> recipes = recipeService.searchRecipes(query);
         return ResponseEntity.ok(recipes);
     }
 
+    @GetMapping(value = "/search", params = "fields=summary")
+    public ResponseEntity<List<RecipeSummaryDTO>> searchRecipeSummaries(@RequestParam(name = "q", required = false) String query) {
+        logger.info("Searching recipe summaries with query: {}", query);
+        return ResponseEntity.ok(recipeService.searchRecipeSummaries(query));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<RecipeDTO> getRecipeById(@PathVariable Long id) {
         logger.info("Fetching recipe with ID: {}", id);
@@ -42,12 +53,19 @@ public class RecipeController {
         }
         return ResponseEntity.ok(recipe);
     }    @GetMapping
-    public ResponseEntity<List<RecipeDTO>> getAllRecipes() {
+    public ResponseEntity<List<RecipeDTO>> getAllRecipes(@RequestParam(name = "fields", required = false) String fields) {
         logger.info("Fetching all recipes");
+        RecipeFieldSet.fromParameter(fields);
         List<RecipeDTO> recipes = recipeService.getAllRecipes();
         return ResponseEntity.ok(recipes);
     }
 
+    @GetMapping(params = "fields=summary")
+    public ResponseEntity<List<RecipeSummaryDTO>> getAllRecipeSummaries() {
+        logger.info("Fetching all recipe summaries");
+        return ResponseEntity.ok(recipeService.getAllRecipeSummaries());
+    }
+
     @PostMapping("/load")
     public ResponseEntity<Map<String, Object>> loadRecipesFromApi() {
         logger.info("Manual trigger to load recipes from external API");
@@ -1,17 +1,22 @@
 package com.recipe_project.recipe.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.recipe_project.recipe.util.PooledStringDeserializer;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 
-@Data
+/**
+ * Immutable, so one instance can be shared by every request that serves the same catalog
+ * generation. Lists built by this application are unmodifiable; Jackson reads upstream JSON
+ * through the builder.
+ */
+@Value
 @Builder
-@NoArgsConstructor
-@AllArgsConstructor
+@Jacksonized
 public class RecipeDTO {
 
     private Long id;
@@ -24,12 +29,19 @@ public class RecipeDTO {
     private Integer prepTimeMinutes;
     
     private Integer servings;
+
+    // Values that repeat across recipes are pooled while the upstream catalog is decoded
+    @JsonDeserialize(using = PooledStringDeserializer.class)
     private String difficulty;
-    
+
+    @JsonDeserialize(contentUsing = PooledStringDeserializer.class)
     private List<String> tags;
+    @JsonDeserialize(contentUsing = PooledStringDeserializer.class)
     private List<String> ingredients;
+    @JsonDeserialize(contentUsing = PooledStringDeserializer.class)
     private List<String> instructions;
-    
+
+    @JsonDeserialize(using = PooledStringDeserializer.class)
     private String cuisine;
     
     @JsonProperty("image")
@@ -38,7 +50,6 @@ public class RecipeDTO {
     private Integer reviewCount;
     private Integer caloriesPerServing;
     private Integer userId;
+    @JsonDeserialize(contentUsing = PooledStringDeserializer.class)
     private List<String> mealType;
-
-    // Remove redundant getters/setters since @Data provides them
 }
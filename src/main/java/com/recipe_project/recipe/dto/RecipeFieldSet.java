@@ -0,0 +1,27 @@
+package com.recipe_project.recipe.dto;
+
+import com.recipe_project.recipe.exception.InvalidRecipeRequestException;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+/**
+ * Field sets supported by the {@code fields} request parameter on list endpoints. Values are
+ * matched exactly in lower case, like the {@code fields=summary} request mappings.
+ */
+public enum RecipeFieldSet {
+    FULL,
+    SUMMARY;
+
+    public static RecipeFieldSet fromParameter(String value) {
+        if (!StringUtils.hasText(value)) {
+            return FULL;
+        }
+        for (RecipeFieldSet fieldSet : values()) {
+            if (fieldSet.name().toLowerCase(Locale.ROOT).equals(value)) {
+                return fieldSet;
+            }
+        }
+        throw new InvalidRecipeRequestException("Unsupported fields value: " + value + ". Use 'full' or 'summary'.");
+    }
+}
@@ -0,0 +1,27 @@
+package com.recipe_project.recipe.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+
+/**
+ * Card-sized view of a recipe used by list and search endpoints when the
+ * client asks for {@code fields=summary}. Instructions and ingredients are
+ * deliberately absent so they are never loaded for list views. Immutable, like
+ * {@link RecipeDTO}.
+ */
+@Value
+@Builder
+@Jacksonized
+public class RecipeSummaryDTO {
+
+    private Long id;
+    private String name;
+    private String cuisine;
+    private List<String> tags;
+    private Integer cookTimeMinutes;
+    private String image;
+    private Double rating;
+}
@@ -0,0 +1,35 @@
+package com.recipe_project.recipe.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Single-row record of the last completed catalog load, used on startup to decide whether a
+ * persisted catalog is fresh enough to serve without refetching from upstream.
+ */
+@Entity
+@Table(name = "catalog_state")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogState {
+
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Instant loadedAt;
+
+    @Column(nullable = false)
+    private Integer recipeCount;
+
+    private String source;
+}
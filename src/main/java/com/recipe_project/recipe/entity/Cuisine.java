@@ -0,0 +1,27 @@
+package com.recipe_project.recipe.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A cuisine, stored once and referenced from recipes by id.
+ */
+@Entity
+@Table(name = "cuisines")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Cuisine {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cuisine_id_seq")
+    @SequenceGenerator(name = "cuisine_id_seq", sequenceName = "cuisines_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String name;
+}
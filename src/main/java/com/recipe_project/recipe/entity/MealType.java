@@ -0,0 +1,27 @@
+package com.recipe_project.recipe.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A meal type, stored once and referenced from recipes by id.
+ */
+@Entity
+@Table(name = "meal_types")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MealType {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meal_type_id_seq")
+    @SequenceGenerator(name = "meal_type_id_seq", sequenceName = "meal_types_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String name;
+}
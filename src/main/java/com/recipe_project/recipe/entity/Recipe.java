@@ -11,7 +11,7 @@ import org.springframework.stereotype.Indexed;
 import java.util.List;
 
 @Entity
-@Table(name = "recipes")
+@Table(name = "recipes", indexes = @Index(name = "idx_recipes_cuisine", columnList = "cuisine_id"))
 @Indexed
 @Data
 @Builder
@@ -19,8 +19,14 @@ import java.util.List;
 @AllArgsConstructor
 public class Recipe {
 
+    /**
+     * Pooled sequence ids: Hibernate reserves {@code allocationSize} ids per sequence call, so
+     * inserts can be JDBC-batched (IDENTITY forces one round trip per row to read the key).
+     * Keep {@code allocationSize} equal to {@code hibernate.jdbc.batch_size}.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipe_id_seq")
+    @SequenceGenerator(name = "recipe_id_seq", sequenceName = "recipes_seq", allocationSize = 100)
     private Long id;
 
     @Column(nullable = false)
@@ -34,9 +40,17 @@ public class Recipe {
     
     private String difficulty;
     
-    @ElementCollection
-    @CollectionTable(name = "recipe_tags", joinColumns = @JoinColumn(name = "recipe_id"))
-    private List<String> tags;
+    /**
+     * Tags, the cuisine and meal types are dictionary rows shared by all recipes; see
+     * {@link com.recipe_project.recipe.repository.CatalogDictionary}. Nothing cascades to them,
+     * so new entries must be saved before the recipes that reference them.
+     */
+    @ManyToMany
+    @JoinTable(name = "recipe_tags",
+            joinColumns = @JoinColumn(name = "recipe_id"),
+            inverseJoinColumns = @JoinColumn(name = "tag_id"),
+            indexes = @Index(name = "idx_recipe_tags_tag", columnList = "tag_id"))
+    private List<Tag> tags;
 
     @ElementCollection
     @CollectionTable(name = "recipe_ingredients", joinColumns = @JoinColumn(name = "recipe_id"))
@@ -46,7 +60,9 @@ public class Recipe {
     @CollectionTable(name = "recipe_instructions", joinColumns = @JoinColumn(name = "recipe_id"))
     private List<String> instructions;
 
-    private String cuisine;
+    @ManyToOne
+    @JoinColumn(name = "cuisine_id")
+    private Cuisine cuisine;
 
     private String image;
 
@@ -58,9 +74,12 @@ public class Recipe {
     
     private Integer userId;
     
-    @ElementCollection
-    @CollectionTable(name = "recipe_meal_types", joinColumns = @JoinColumn(name = "recipe_id"))
-    private List<String> mealType;
+    @ManyToMany
+    @JoinTable(name = "recipe_meal_types",
+            joinColumns = @JoinColumn(name = "recipe_id"),
+            inverseJoinColumns = @JoinColumn(name = "meal_type_id"),
+            indexes = @Index(name = "idx_recipe_meal_types_meal_type", columnList = "meal_type_id"))
+    private List<MealType> mealType;
 
     // Remove redundant getters/setters since @Data provides them
 }
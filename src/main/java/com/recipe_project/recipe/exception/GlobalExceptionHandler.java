@@ -14,13 +14,12 @@ public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    // Not-found ids and invalid parameters are client noise, logged at debug so that probing
+    // cannot flood the log
     @ExceptionHandler(RecipeNotFoundException.class)
     public ResponseEntity<Map<String,Object>> handleRecipeNotFoundException(RecipeNotFoundException ex) {
-        logger.error("Recipe not found: {}", ex.getMessage());
-        Map<String, Object> response = new HashMap<>();
-        response.put("error", "Recipe not found");
-        response.put("message", ex.getMessage());
-        return ResponseEntity.status(404).body(response);
+        logger.debug("Recipe not found: {}", ex.getMessage());
+        return ResponseEntity.status(404).body(Map.of("error", "Recipe not found", "message", ex.getMessage()));
     }
 
     @ExceptionHandler(ExternalApiException.class)
@@ -32,7 +31,13 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(503).body(response);
     }
 
-   @ExceptionHandler(IllegalArgumentException.class)
+    @ExceptionHandler(InvalidRecipeRequestException.class)
+    public ResponseEntity<Map<String,Object>> handleInvalidRecipeRequestException(InvalidRecipeRequestException ex) {
+        logger.debug("Invalid request: {}", ex.getMessage());
+        return ResponseEntity.badRequest().body(Map.of("error", "Invalid argument", "message", ex.getMessage()));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String,Object>> handleIllegalArgumentException(IllegalArgumentException ex) {
         logger.error("Invalid argument: {}", ex.getMessage());
         Map<String, Object> response = new HashMap<>();
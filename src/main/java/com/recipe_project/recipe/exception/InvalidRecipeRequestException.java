@@ -0,0 +1,17 @@
+package com.recipe_project.recipe.exception;
+
+/**
+ * An {@link IllegalArgumentException} for request parameters that fail validation, without a stack
+ * trace since the cause is always the client's input.
+ */
+public class InvalidRecipeRequestException extends IllegalArgumentException {
+
+    public InvalidRecipeRequestException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -1,8 +1,16 @@
 package com.recipe_project.recipe.exception;
 
+/**
+ * Thrown for ids the catalog does not have. It carries no stack trace: ids come from clients,
+ * scrapers probe them by the thousand, and the trace would only ever point at the same lookup.
+ */
 public class RecipeNotFoundException extends RuntimeException {
 
     public RecipeNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
+    }
+
+    public RecipeNotFoundException(Long id) {
+        this("Recipe not found with ID: " + id);
     }
 }
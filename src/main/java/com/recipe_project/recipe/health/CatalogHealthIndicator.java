@@ -0,0 +1,43 @@
+package com.recipe_project.recipe.health;
+
+import com.recipe_project.recipe.entity.CatalogState;
+import com.recipe_project.recipe.repository.CatalogStateRepository;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * The {@code catalog} health component, part of the readiness group. It is out of service while
+ * the startup load runs. If that load fails, it turns up as soon as any catalog is stored, whether
+ * left from an earlier run or loaded later through {@code POST /api/recipes/load}.
+ */
+@Component
+public class CatalogHealthIndicator implements HealthIndicator {
+
+    private final CatalogInitialization initialization;
+    private final CatalogStateRepository catalogStateRepository;
+
+    public CatalogHealthIndicator(CatalogInitialization initialization, CatalogStateRepository catalogStateRepository) {
+        this.initialization = initialization;
+        this.catalogStateRepository = catalogStateRepository;
+    }
+
+    @Override
+    public Health health() {
+        CatalogInitialization.Phase phase = initialization.getPhase();
+        Health.Builder builder = switch (phase) {
+            case READY, DISABLED -> Health.up();
+            case FAILED -> catalogStateRepository.existsById(CatalogState.SINGLETON_ID) ? Health.up() : Health.outOfService();
+            default -> Health.outOfService();
+        };
+        builder.withDetail("phase", phase.name().toLowerCase())
+                .withDetail("phaseMillis", initialization.getPhaseMillis());
+        if (initialization.getLoadedFrom() != null) {
+            builder.withDetail("loadedFrom", initialization.getLoadedFrom());
+        }
+        if (initialization.getFailure() != null) {
+            builder.withDetail("error", initialization.getFailure());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.recipe_project.recipe.health;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Progress of the startup catalog load. {@code DataInitializer} moves it through the phases on a
+ * background thread and {@link CatalogHealthIndicator} reports it, so readiness waits for the
+ * catalog while liveness does not.
+ */
+@Component
+public class CatalogInitialization {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogInitialization.class);
+
+    public enum Phase {
+        /** Startup loading is switched off; readiness does not wait for a catalog. */
+        DISABLED,
+        PENDING,
+        CHECKING_STORED_CATALOG,
+        RESTORING_SNAPSHOT,
+        FETCHING_UPSTREAM,
+        READY,
+        FAILED
+    }
+
+    private final Map<Phase, Duration> phaseTimings = Collections.synchronizedMap(new EnumMap<>(Phase.class));
+    private volatile Phase phase;
+    private volatile String loadedFrom;
+    private volatile String failure;
+    private volatile long startedNanos;
+
+    public CatalogInitialization(@Value("${recipe.catalog.initialize-on-startup:true}") boolean initializeOnStartup) {
+        this.phase = initializeOnStartup ? Phase.PENDING : Phase.DISABLED;
+    }
+
+    /**
+     * Runs {@code body} as {@code phase}, recording how long it took.
+     */
+    public <T> T phase(Phase phase, Supplier<T> body) {
+        if (this.phase == Phase.PENDING) {
+            startedNanos = System.nanoTime();
+        }
+        this.phase = phase;
+        long start = System.nanoTime();
+        try {
+            return body.get();
+        } finally {
+            phaseTimings.put(phase, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    public void ready(String loadedFrom) {
+        this.loadedFrom = loadedFrom;
+        this.phase = Phase.READY;
+        logger.info("Catalog initialization finished from {} in {} ms {}", loadedFrom, totalMillis(), getPhaseMillis());
+    }
+
+    public void failed(String failure) {
+        this.failure = failure;
+        this.phase = Phase.FAILED;
+        logger.warn("Catalog initialization failed after {} ms {}: {}", totalMillis(), getPhaseMillis(), failure);
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public String getLoadedFrom() {
+        return loadedFrom;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    /**
+     * Milliseconds spent in each phase that has run so far, in phase order.
+     */
+    public Map<String, Long> getPhaseMillis() {
+        synchronized (phaseTimings) {
+            Map<String, Long> millis = new LinkedHashMap<>();
+            phaseTimings.forEach((phase, duration) -> millis.put(phase.name().toLowerCase(), duration.toMillis()));
+            return millis;
+        }
+    }
+
+    private long totalMillis() {
+        return Duration.ofNanos(System.nanoTime() - startedNanos).toMillis();
+    }
+}
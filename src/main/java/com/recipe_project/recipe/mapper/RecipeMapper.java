@@ -1,12 +1,26 @@
 package com.recipe_project.recipe.mapper;
 
 import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.dto.RecipeSummaryDTO;
+import com.recipe_project.recipe.entity.MealType;
 import com.recipe_project.recipe.entity.Recipe;
+import com.recipe_project.recipe.entity.Tag;
+import com.recipe_project.recipe.repository.CatalogDictionary;
+import com.recipe_project.recipe.repository.RecipeSummaryView;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
 @Component
 public class RecipeMapper {
 
+    /**
+     * Maps {@code recipe} to a DTO whose lists are unmodifiable copies, so Hibernate's collection
+     * wrappers never leave the transaction and serialization does not iterate them.
+     */
     public RecipeDTO toDTO(Recipe recipe){
         if (recipe == null) {
             return null;
@@ -14,10 +28,10 @@ public class RecipeMapper {
         return RecipeDTO.builder()
                 .id(recipe.getId())
                 .name(recipe.getName())
-                .cuisine(recipe.getCuisine())
-                .tags(recipe.getTags())
-                .ingredients(recipe.getIngredients())
-                .instructions(recipe.getInstructions())
+                .cuisine(recipe.getCuisine() == null ? null : recipe.getCuisine().getName())
+                .tags(names(recipe.getTags(), Tag::getName))
+                .ingredients(names(recipe.getIngredients(), Function.identity()))
+                .instructions(names(recipe.getInstructions(), Function.identity()))
                 .cookTimeMinutes(recipe.getCookTimeMinutes())
                 .prepTimeMinutes(recipe.getPrepTimeMinutes())
                 .servings(recipe.getServings())
@@ -26,11 +40,19 @@ public class RecipeMapper {
                 .reviewCount(recipe.getReviewCount())
                 .caloriesPerServing(recipe.getCaloriesPerServing())
                 .userId(recipe.getUserId())
-                .mealType(recipe.getMealType())
+                .mealType(names(recipe.getMealType(), MealType::getName))
                 .image(recipe.getImage())                .build();
     }
 
     public Recipe toEntity(RecipeDTO recipeDTO) {
+        return toEntity(recipeDTO, new CatalogDictionary());
+    }
+
+    /**
+     * Maps {@code recipeDTO}, resolving its tags, cuisine and meal types through {@code dictionary}
+     * so recipes mapped with the same dictionary share those entities.
+     */
+    public Recipe toEntity(RecipeDTO recipeDTO, CatalogDictionary dictionary) {
         if (recipeDTO == null) {
             return null;
         }
@@ -38,8 +60,8 @@ public class RecipeMapper {
         return Recipe.builder()
                 .id(recipeDTO.getId())
                 .name(recipeDTO.getName())
-                .cuisine(recipeDTO.getCuisine())
-                .tags(recipeDTO.getTags())
+                .cuisine(dictionary.cuisine(recipeDTO.getCuisine()))
+                .tags(dictionary.tags(recipeDTO.getTags()))
                 .ingredients(recipeDTO.getIngredients())
                 .instructions(recipeDTO.getInstructions())
                 .cookTimeMinutes(recipeDTO.getCookTimeMinutes())
@@ -49,9 +71,36 @@ public class RecipeMapper {
                 .rating(recipeDTO.getRating())                .reviewCount(recipeDTO.getReviewCount())
                 .caloriesPerServing(recipeDTO.getCaloriesPerServing())
                 .userId(recipeDTO.getUserId())
-                .mealType(recipeDTO.getMealType())
+                .mealType(dictionary.mealTypes(recipeDTO.getMealType()))
                 .image(recipeDTO.getImage())
                 .build();
     }
-}
 
+    private static <T> List<String> names(List<T> entries, Function<T, String> name) {
+        if (entries == null) {
+            return null;
+        }
+        String[] names = new String[entries.size()];
+        int i = 0;
+        for (T entry : entries) {
+            names[i++] = name.apply(entry);
+        }
+        return Collections.unmodifiableList(Arrays.asList(names));
+    }
+
+    public RecipeSummaryDTO toSummaryDTO(RecipeSummaryView summary, List<String> tags) {
+        if (summary == null) {
+            return null;
+        }
+
+        return RecipeSummaryDTO.builder()
+                .id(summary.getId())
+                .name(summary.getName())
+                .cuisine(summary.getCuisine())
+                .tags(tags)
+                .cookTimeMinutes(summary.getCookTimeMinutes())
+                .image(summary.getImage())
+                .rating(summary.getRating())
+                .build();
+    }
+}
@@ -0,0 +1,290 @@
+package com.recipe_project.recipe.metrics;
+
+import com.recipe_project.recipe.admission.AdaptiveConcurrencyLimit;
+import com.recipe_project.recipe.admission.EndpointClass;
+import com.recipe_project.recipe.exception.RecipeNotFoundException;
+import com.recipe_project.recipe.ratelimit.TokenBucketStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Application meters for the recipe read and load paths. All tags are drawn from small
+ * fixed sets (operation, outcome, cache name, hit/miss, endpoint class, rate-limit result) so the
+ * series count stays constant no matter what clients query; nothing is tagged by client.
+ * Repository calls are timed separately by Spring Boot's
+ * {@code spring.data.repository.invocations} and HTTP requests by {@code http.server.requests}.
+ */
+@Component
+public class RecipeMetrics {
+
+    public enum Operation {
+        SEARCH("search"),
+        SEARCH_SUMMARY("search_summary"),
+        GET_BY_ID("get_by_id"),
+        GET_ALL("get_all"),
+        GET_ALL_SUMMARY("get_all_summary"),
+        LOAD("load");
+
+        private final String tagValue;
+
+        Operation(String tagValue) {
+            this.tagValue = tagValue;
+        }
+    }
+
+    public enum Outcome {
+        SUCCESS, NOT_FOUND, INVALID, ERROR;
+
+        private final String tagValue = name().toLowerCase();
+    }
+
+    private final MeterRegistry registry;
+    private final Map<Operation, Map<Outcome, Timer>> operationTimers = new EnumMap<>(Operation.class);
+    private final Map<Operation, DistributionSummary> resultSizes = new EnumMap<>(Operation.class);
+    private final Map<Outcome, Timer> externalFetchTimers = new EnumMap<>(Outcome.class);
+    private final Counter externalFetchAttempts;
+    private final Counter externalFetchRetries;
+    private final DistributionSummary externalResponseBytes;
+    private final DistributionSummary ingestBytesSaved;
+    private final Counter rateLimitAllowed;
+    private final Counter rateLimitLimited;
+    private final Map<EndpointClass, Counter> admissionRejected = new EnumMap<>(EndpointClass.class);
+    private final Map<String, CacheCounters> cacheGets = new ConcurrentHashMap<>();
+    private final Map<String, RouteSqlMeters> routeSqlMeters = new ConcurrentHashMap<>();
+
+    public RecipeMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Operation operation : Operation.values()) {
+            Map<Outcome, Timer> timers = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                timers.put(outcome, Timer.builder("recipe.service.operations")
+                        .description("Time spent in RecipeService operations")
+                        .tag("operation", operation.tagValue)
+                        .tag("outcome", outcome.tagValue)
+                        .publishPercentileHistogram()
+                        .register(registry));
+            }
+            operationTimers.put(operation, timers);
+            resultSizes.put(operation, DistributionSummary.builder("recipe.service.results")
+                    .description("Number of recipes returned or loaded per operation")
+                    .baseUnit("recipes")
+                    .tag("operation", operation.tagValue)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+        for (Outcome outcome : Outcome.values()) {
+            externalFetchTimers.put(outcome, Timer.builder("recipe.external.fetch")
+                    .description("Latency of a single attempt to fetch the upstream catalog")
+                    .tag("outcome", outcome.tagValue)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+        externalFetchAttempts = Counter.builder("recipe.external.fetch.attempts")
+                .description("Attempts to fetch the upstream catalog, including retries")
+                .register(registry);
+        externalFetchRetries = Counter.builder("recipe.external.fetch.retries")
+                .description("Attempts that were retries of a failed fetch")
+                .register(registry);
+        externalResponseBytes = DistributionSummary.builder("recipe.external.response.size")
+                .description("Size of upstream response bodies")
+                .baseUnit("bytes")
+                .register(registry);
+        ingestBytesSaved = DistributionSummary.builder("recipe.ingest.strings.saved")
+                .description("Estimated heap saved per upstream decode by pooling repeated strings")
+                .baseUnit("bytes")
+                .register(registry);
+        rateLimitAllowed = rateLimitCounter("allowed");
+        rateLimitLimited = rateLimitCounter("limited");
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            admissionRejected.put(endpointClass, Counter.builder("recipe.admission.rejected")
+                    .description("Requests shed because their endpoint class was at its concurrency limit")
+                    .tag("class", endpointClass.tagValue())
+                    .register(registry));
+        }
+    }
+
+    public void recordOperation(Operation operation, Outcome outcome, long startNanos) {
+        operationTimers.get(operation).get(outcome).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordResultSize(Operation operation, int recipes) {
+        resultSizes.get(operation).record(recipes);
+    }
+
+    public void recordExternalFetch(Outcome outcome, long startNanos, boolean retry) {
+        externalFetchAttempts.increment();
+        if (retry) {
+            externalFetchRetries.increment();
+        }
+        externalFetchTimers.get(outcome).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordExternalResponseBytes(long bytes) {
+        externalResponseBytes.record(bytes);
+    }
+
+    public void recordIngestBytesSaved(long bytes) {
+        ingestBytesSaved.record(bytes);
+    }
+
+    /**
+     * Counts a lookup in one of the in-process caches; hit ratio is
+     * {@code recipe.cache.gets{result="hit"} / recipe.cache.gets}.
+     */
+    public void recordCacheAccess(String cache, boolean hit) {
+        CacheCounters counters = cacheGets.computeIfAbsent(cache, name -> new CacheCounters(
+                cacheCounter(name, "hit"), cacheCounter(name, "miss")));
+        (hit ? counters.hit() : counters.miss()).increment();
+    }
+
+    /**
+     * Exposes the concurrency limit of an admission class and the requests it has in flight.
+     */
+    public void registerAdmissionLimit(String endpointClass, AdaptiveConcurrencyLimit limit) {
+        Gauge.builder("recipe.admission.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("Concurrent requests currently admitted for the endpoint class")
+                .baseUnit("requests")
+                .tag("class", endpointClass)
+                .register(registry);
+        Gauge.builder("recipe.admission.in.flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .description("Admitted requests of the endpoint class still in progress")
+                .baseUnit("requests")
+                .tag("class", endpointClass)
+                .register(registry);
+    }
+
+    /**
+     * Counts a request shed with 503 because its endpoint class was at its concurrency limit.
+     * The counters are created up front, since shedding is when the server can least afford to
+     * register meters.
+     */
+    public void recordAdmissionRejected(EndpointClass endpointClass) {
+        admissionRejected.get(endpointClass).increment();
+    }
+
+    /**
+     * Exposes how many clients have a rate-limit bucket and how many were dropped while still
+     * draining theirs.
+     */
+    public void registerRateLimitStore(TokenBucketStore store) {
+        Gauge.builder("recipe.ratelimit.clients", store, TokenBucketStore::size)
+                .description("Clients currently holding a rate-limit bucket")
+                .baseUnit("clients")
+                .register(registry);
+        FunctionCounter.builder("recipe.ratelimit.evictions", store, TokenBucketStore::evictions)
+                .description("Rate-limit buckets dropped to make room before they had refilled")
+                .register(registry);
+    }
+
+    /**
+     * Counts a rate-limit decision. The counters are created up front since this runs on every
+     * API request.
+     */
+    public void recordRateLimit(boolean allowed) {
+        (allowed ? rateLimitAllowed : rateLimitLimited).increment();
+    }
+
+    /**
+     * Records the JDBC work of one HTTP request; {@code route} is the matched URI template,
+     * never the raw path.
+     */
+    public void recordRequestSql(String route, SqlProfile profile, boolean overBudget) {
+        RouteSqlMeters meters = routeSqlMeters.computeIfAbsent(route, RouteSqlMeters::new);
+        meters.statements.record(profile.getStatements());
+        meters.time.record(profile.getStatementNanos(), TimeUnit.NANOSECONDS);
+        meters.entitiesLoaded.record(profile.getEntitiesLoaded());
+        meters.collectionsInitialized.record(profile.getCollectionsInitialized());
+        if (overBudget) {
+            meters.budgetExceeded().increment();
+        }
+    }
+
+    private Counter cacheCounter(String cache, String result) {
+        return Counter.builder("recipe.cache.gets")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private Counter rateLimitCounter(String result) {
+        return Counter.builder("recipe.ratelimit.requests")
+                .description("API requests checked against their client's rate limit")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * The hit and miss counters of one cache, registered on its first lookup.
+     */
+    private record CacheCounters(Counter hit, Counter miss) {
+    }
+
+    /**
+     * The SQL meters of one route, registered on its first request instead of looked up on every
+     * one. The budget counter only appears once the route first goes over budget.
+     */
+    private final class RouteSqlMeters {
+
+        private final String route;
+        private final DistributionSummary statements;
+        private final Timer time;
+        private final DistributionSummary entitiesLoaded;
+        private final DistributionSummary collectionsInitialized;
+        private volatile Counter budgetExceeded;
+
+        RouteSqlMeters(String route) {
+            this.route = route;
+            statements = DistributionSummary.builder("recipe.sql.statements")
+                    .description("JDBC statement and batch executions per HTTP request")
+                    .baseUnit("statements")
+                    .tag("route", route)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            time = Timer.builder("recipe.sql.time")
+                    .description("Time spent executing JDBC statements per HTTP request")
+                    .tag("route", route)
+                    .register(registry);
+            entitiesLoaded = DistributionSummary.builder("recipe.sql.entities.loaded")
+                    .description("Entities hydrated per HTTP request")
+                    .tag("route", route)
+                    .register(registry);
+            collectionsInitialized = DistributionSummary.builder("recipe.sql.collections.initialized")
+                    .description("Lazy collections initialized per HTTP request")
+                    .tag("route", route)
+                    .register(registry);
+        }
+
+        Counter budgetExceeded() {
+            Counter counter = budgetExceeded;
+            if (counter == null) {
+                // Registering twice returns the same counter, so a race here is harmless
+                counter = Counter.builder("recipe.sql.budget.exceeded")
+                        .description("HTTP requests that executed more statements than the budget")
+                        .tag("route", route)
+                        .register(registry);
+                budgetExceeded = counter;
+            }
+            return counter;
+        }
+    }
+
+    public static Outcome outcomeOf(Throwable error) {
+        if (error instanceof RecipeNotFoundException) {
+            return Outcome.NOT_FOUND;
+        }
+        if (error instanceof IllegalArgumentException) {
+            return Outcome.INVALID;
+        }
+        return Outcome.ERROR;
+    }
+}
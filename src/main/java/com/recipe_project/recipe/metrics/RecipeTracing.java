@@ -0,0 +1,49 @@
+package com.recipe_project.recipe.metrics;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Wraps the stages of catalog loads and read requests in observations, so each stage becomes a
+ * child span of the surrounding HTTP server span (or a root span for startup and scheduled loads)
+ * and a {@code recipe.stage} timer tagged by {@code stage}.
+ */
+@Component
+public class RecipeTracing {
+
+    public static final String STAGE_OBSERVATION = "recipe.stage";
+
+    public static final String LOAD = "load";
+    public static final String LOAD_FETCH = "load.fetch";
+    public static final String LOAD_DECODE = "load.decode";
+    public static final String LOAD_SNAPSHOT = "load.snapshot";
+    public static final String LOAD_MAP = "load.map";
+    public static final String LOAD_DELETE = "load.delete";
+    public static final String LOAD_INSERT = "load.insert";
+    public static final String LOAD_INDEX = "load.index";
+    public static final String READ_QUERY = "read.query";
+    public static final String READ_MAP = "read.map";
+
+    private final ObservationRegistry observationRegistry;
+
+    public RecipeTracing(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    public <T> T observe(String stage, Supplier<T> body) {
+        return stage(stage).observe(body);
+    }
+
+    public void observe(String stage, Runnable body) {
+        stage(stage).observe(body);
+    }
+
+    private Observation stage(String stage) {
+        return Observation.createNotStarted(STAGE_OBSERVATION, observationRegistry)
+                .contextualName(stage)
+                .lowCardinalityKeyValue("stage", stage);
+    }
+}
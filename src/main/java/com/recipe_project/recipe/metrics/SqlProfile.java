@@ -0,0 +1,65 @@
+package com.recipe_project.recipe.metrics;
+
+/**
+ * JDBC and Hibernate work done on behalf of a single HTTP request.
+ * <p>
+ * {@link SqlProfilingFilter} opens a profile for the request thread; the Hibernate listeners
+ * record into whatever profile is open on the calling thread and do nothing otherwise, so
+ * scheduled and async work is never attributed to a request.
+ */
+public final class SqlProfile {
+
+    private static final ThreadLocal<SqlProfile> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long statementNanos;
+    private int entitiesLoaded;
+    private int collectionsInitialized;
+
+    private SqlProfile() {
+    }
+
+    public static SqlProfile begin() {
+        SqlProfile profile = new SqlProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static SqlProfile current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(long nanos) {
+        statements++;
+        statementNanos += nanos;
+    }
+
+    void recordEntityLoaded() {
+        entitiesLoaded++;
+    }
+
+    void recordCollectionInitialized() {
+        collectionsInitialized++;
+    }
+
+    /** JDBC round trips: single statement executions plus batch executions. */
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getStatementNanos() {
+        return statementNanos;
+    }
+
+    public int getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    public int getCollectionsInitialized() {
+        return collectionsInitialized;
+    }
+}
@@ -0,0 +1,30 @@
+package com.recipe_project.recipe.metrics;
+
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+
+/**
+ * Counts entities hydrated and lazy collections initialized into the request's {@link SqlProfile}.
+ * A steady collections-per-entity ratio above zero is the N+1 signature of the
+ * {@code @ElementCollection} fields on {@code Recipe}.
+ */
+public class SqlProfilingEventListener implements PostLoadEventListener, InitializeCollectionEventListener {
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        SqlProfile profile = SqlProfile.current();
+        if (profile != null) {
+            profile.recordEntityLoaded();
+        }
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        SqlProfile profile = SqlProfile.current();
+        if (profile != null) {
+            profile.recordCollectionInitialized();
+        }
+    }
+}
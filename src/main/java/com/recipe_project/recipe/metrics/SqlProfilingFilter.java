@@ -0,0 +1,85 @@
+package com.recipe_project.recipe.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens a {@link SqlProfile} around each request, records it through {@link RecipeMetrics}
+ * under the matched route template, and warns when the request executed more JDBC
+ * statements than the configured budget.
+ * <p>
+ * With debug headers enabled the profile is also returned as {@code X-SQL-*} response headers.
+ * Lazy collections are still initialized while Jackson writes the body, so in that mode the body
+ * is buffered until the request completes; leave it off outside of diagnostics.
+ */
+public class SqlProfilingFilter extends OncePerRequestFilter {
+
+    /** Common to the profile headers, which describe one request and must never be cached. */
+    public static final String HEADER_PREFIX = "X-SQL-";
+    public static final String STATEMENTS_HEADER = HEADER_PREFIX + "Statements";
+    public static final String TIME_HEADER = HEADER_PREFIX + "Time-Ms";
+    public static final String ENTITIES_HEADER = HEADER_PREFIX + "Entities-Loaded";
+    public static final String COLLECTIONS_HEADER = HEADER_PREFIX + "Collections-Initialized";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlProfilingFilter.class);
+    private static final String UNMAPPED_ROUTE = "unmapped";
+
+    private final RecipeMetrics recipeMetrics;
+    private final int statementBudget;
+    private final boolean debugHeaders;
+
+    public SqlProfilingFilter(RecipeMetrics recipeMetrics, int statementBudget, boolean debugHeaders) {
+        this.recipeMetrics = recipeMetrics;
+        this.statementBudget = statementBudget;
+        this.debugHeaders = debugHeaders;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlProfile profile = SqlProfile.begin();
+        ContentCachingResponseWrapper bufferedResponse = debugHeaders ? new ContentCachingResponseWrapper(response) : null;
+        try {
+            filterChain.doFilter(request, bufferedResponse != null ? bufferedResponse : response);
+        } finally {
+            SqlProfile.end();
+            record(request, profile);
+            if (bufferedResponse != null) {
+                writeProfileHeaders(bufferedResponse, profile);
+                bufferedResponse.copyBodyToResponse();
+            }
+        }
+    }
+
+    private static void writeProfileHeaders(HttpServletResponse response, SqlProfile profile) {
+        response.setHeader(STATEMENTS_HEADER, Integer.toString(profile.getStatements()));
+        response.setHeader(TIME_HEADER, String.format(Locale.ROOT, "%.3f", profile.getStatementNanos() / 1_000_000.0));
+        response.setHeader(ENTITIES_HEADER, Integer.toString(profile.getEntitiesLoaded()));
+        response.setHeader(COLLECTIONS_HEADER, Integer.toString(profile.getCollectionsInitialized()));
+    }
+
+    private void record(HttpServletRequest request, SqlProfile profile) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : UNMAPPED_ROUTE;
+        boolean overBudget = profile.getStatements() > statementBudget;
+        recipeMetrics.recordRequestSql(route, profile, overBudget);
+
+        if (overBudget) {
+            log.warn("{} {} executed {} SQL statements (budget {}) in {} ms, loaded {} entities and initialized {} collections",
+                    request.getMethod(), route, profile.getStatements(), statementBudget,
+                    TimeUnit.NANOSECONDS.toMillis(profile.getStatementNanos()),
+                    profile.getEntitiesLoaded(), profile.getCollectionsInitialized());
+        }
+    }
+}
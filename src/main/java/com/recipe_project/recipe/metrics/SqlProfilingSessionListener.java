@@ -0,0 +1,40 @@
+package com.recipe_project.recipe.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Times JDBC statement and batch executions into the request's {@link SqlProfile}.
+ * Hibernate creates one instance per session from the class name configured in
+ * {@code hibernate.session.events.auto}, so it must keep a public no-arg constructor.
+ */
+public class SqlProfilingSessionListener implements SessionEventListener {
+
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        recordExecution();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        recordExecution();
+    }
+
+    private void recordExecution() {
+        SqlProfile profile = SqlProfile.current();
+        if (profile != null) {
+            profile.recordStatement(System.nanoTime() - executionStart);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.recipe_project.recipe.ratelimit;
+
+import com.recipe_project.recipe.metrics.RecipeMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits each client of the recipe API to the rate of its {@link TokenBucketStore} bucket,
+ * answering {@code 429 Too Many Requests} with {@code Retry-After} once the bucket is empty.
+ * Clients are told apart by their API key header when it holds one of the configured keys and by
+ * remote address otherwise, so that made-up keys cannot buy a fresh bucket per request; behind a
+ * proxy, {@code server.forward-headers-strategy} makes that the original client's address. Every response carries {@code X-RateLimit-Limit},
+ * {@code X-RateLimit-Remaining} and {@code X-RateLimit-Reset}, the seconds until the bucket is
+ * full again.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String RESET_HEADER = "X-RateLimit-Reset";
+
+    // Same shape as the GlobalExceptionHandler bodies
+    private static final byte[] REJECTION_BODY = ("{\"error\":\"Too many requests\","
+            + "\"message\":\"Rate limit exceeded, please retry later\"}").getBytes(StandardCharsets.UTF_8);
+
+    private final TokenBucketStore store;
+    private final RecipeMetrics recipeMetrics;
+    private final String apiKeyHeader;
+    private final Set<String> apiKeys;
+    private final String limitValue;
+
+    public RateLimitFilter(TokenBucketStore store, RecipeMetrics recipeMetrics, String apiKeyHeader, Set<String> apiKeys) {
+        this.store = store;
+        this.recipeMetrics = recipeMetrics;
+        this.apiKeyHeader = apiKeyHeader;
+        this.apiKeys = Set.copyOf(apiKeys);
+        this.limitValue = Long.toString(store.capacity());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        TokenBucket.Result result = store.tryConsume(clientKey(request), 1);
+        response.setHeader(LIMIT_HEADER, limitValue);
+        response.setHeader(REMAINING_HEADER, Long.toString(result.remaining()));
+        recipeMetrics.recordRateLimit(result.allowed());
+        if (result.allowed()) {
+            response.setHeader(RESET_HEADER, Long.toString(toSeconds(result.waitNanos())));
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String retryAfter = Long.toString(Math.max(1, toSeconds(result.waitNanos())));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(RESET_HEADER, retryAfter);
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(REJECTION_BODY.length);
+        response.getOutputStream().write(REJECTION_BODY);
+    }
+
+    /**
+     * The bucket key of a request. An unknown API key counts against the sender's address. The
+     * prefixes keep an API key that looks like an address from sharing that address's bucket.
+     */
+    String clientKey(HttpServletRequest request) {
+        String apiKey = request.getHeader(apiKeyHeader);
+        if (apiKey != null && apiKeys.contains(apiKey)) {
+            return "key:" + apiKey;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static long toSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
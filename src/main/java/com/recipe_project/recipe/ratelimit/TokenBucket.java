@@ -0,0 +1,71 @@
+package com.recipe_project.recipe.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket holding up to {@code capacity} tokens and refilled at a steady rate, kept as a
+ * single timestamp so that taking tokens is one compare-and-set. This is the generic cell rate
+ * algorithm: instead of a token count, the bucket stores the time at which it would be full
+ * again, each token taken pushes that time one refill interval further out, and a request is
+ * refused when it would push it more than a full bucket's worth past now.
+ * <p>
+ * Times are {@link System#nanoTime()} readings supplied by the caller.
+ */
+public class TokenBucket {
+
+    /**
+     * The outcome of {@link #tryConsume}: whether the tokens were taken, how many whole tokens are
+     * left, and how long until the bucket is full or, when refused, until the request would fit.
+     */
+    public record Result(boolean allowed, long remaining, long waitNanos) {
+    }
+
+    private final long capacity;
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(long capacity, long nanosPerToken, long nowNanos) {
+        this.capacity = capacity;
+        this.nanosPerToken = nanosPerToken;
+        this.burstNanos = capacity * nanosPerToken;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    public Result tryConsume(long tokens, long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long base = current - nowNanos > 0 ? current : nowNanos;
+            long next = base + tokens * nanosPerToken;
+            if (next - nowNanos > burstNanos) {
+                return new Result(false, remaining(base, nowNanos), next - burstNanos - nowNanos);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return new Result(true, remaining(next, nowNanos), next - nowNanos);
+            }
+        }
+    }
+
+    /**
+     * Whether the bucket has refilled completely, so that dropping it and starting a new one later
+     * loses nothing.
+     */
+    public boolean isFull(long nowNanos) {
+        return fullAt.get() - nowNanos <= 0;
+    }
+
+    /**
+     * Whether the bucket has no whole token left, so that its client is being refused.
+     */
+    public boolean isEmpty(long nowNanos) {
+        return remaining(fullAt.get(), nowNanos) < 1;
+    }
+
+    private long remaining(long fullAtNanos, long nowNanos) {
+        return (burstNanos - (fullAtNanos - nowNanos)) / nanosPerToken;
+    }
+}
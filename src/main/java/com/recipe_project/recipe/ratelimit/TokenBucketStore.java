@@ -0,0 +1,94 @@
+package com.recipe_project.recipe.ratelimit;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * One {@link TokenBucket} per client, for at most about {@code maxClients} clients. Lookups of a
+ * known client take no lock. When a new client would exceed the bound, one thread sweeps out
+ * every bucket that has refilled completely, which is free since a new bucket starts full. If
+ * that is not enough, other buckets go until the store is back to three quarters of the bound, and
+ * those clients start over with a full bucket. Empty buckets go last, so a flood of new clients
+ * does not hand the clients currently being refused a fresh burst.
+ */
+public class TokenBucketStore {
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final long capacity;
+    private final long nanosPerToken;
+    private final int maxClients;
+    private final LongSupplier nanoClock;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public TokenBucketStore(long capacity, double tokensPerSecond, int maxClients, LongSupplier nanoClock) {
+        if (capacity < 1 || tokensPerSecond <= 0 || maxClients < 1) {
+            throw new IllegalArgumentException("Need a positive capacity, refill rate and client bound, got "
+                    + capacity + ", " + tokensPerSecond + "/s and " + maxClients);
+        }
+        this.capacity = capacity;
+        this.nanosPerToken = Math.max(1, Math.round(1_000_000_000L / tokensPerSecond));
+        this.maxClients = maxClients;
+        this.nanoClock = nanoClock;
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Takes {@code tokens} from {@code client}'s bucket, creating a full one for a new client.
+     */
+    public TokenBucket.Result tryConsume(String client, long tokens) {
+        long now = nanoClock.getAsLong();
+        TokenBucket bucket = buckets.get(client);
+        if (bucket == null) {
+            if (buckets.size() >= maxClients) {
+                sweep(now);
+            }
+            bucket = buckets.computeIfAbsent(client, key -> new TokenBucket(capacity, nanosPerToken, now));
+        }
+        return bucket.tryConsume(tokens, now);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * Buckets of clients that were still draining them when dropped to make room.
+     */
+    public long evictions() {
+        return evictions.get();
+    }
+
+    private void sweep(long now) {
+        // Whoever loses the race inserts anyway; the bound is approximate
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+            int target = maxClients - maxClients / 4;
+            evict(target, bucket -> !bucket.isEmpty(now));
+            evict(target, bucket -> true);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private void evict(int target, Predicate<TokenBucket> evictable) {
+        Iterator<TokenBucket> iterator = buckets.values().iterator();
+        while (buckets.size() > target && iterator.hasNext()) {
+            if (evictable.test(iterator.next())) {
+                iterator.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.recipe_project.recipe.repository;
+
+import com.recipe_project.recipe.entity.Cuisine;
+import com.recipe_project.recipe.entity.MealType;
+import com.recipe_project.recipe.entity.Tag;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Resolves tag, cuisine and meal type names to one shared entity per name while a catalog is
+ * mapped. Names already stored resolve to their rows; unseen names get a new entity that is
+ * remembered until {@link RecipeBulkOperations#saveDictionary} persists it. Not thread-safe.
+ */
+public class CatalogDictionary {
+
+    private final Map<String, Tag> tags = new HashMap<>();
+    private final Map<String, Cuisine> cuisines = new HashMap<>();
+    private final Map<String, MealType> mealTypes = new HashMap<>();
+    private final List<Object> added = new ArrayList<>();
+
+    public CatalogDictionary() {
+    }
+
+    public CatalogDictionary(Collection<Tag> tags, Collection<Cuisine> cuisines, Collection<MealType> mealTypes) {
+        tags.forEach(tag -> this.tags.put(tag.getName(), tag));
+        cuisines.forEach(cuisine -> this.cuisines.put(cuisine.getName(), cuisine));
+        mealTypes.forEach(mealType -> this.mealTypes.put(mealType.getName(), mealType));
+    }
+
+    public List<Tag> tags(List<String> names) {
+        return resolveAll(names, this::tag);
+    }
+
+    public Tag tag(String name) {
+        return resolve(tags, name, n -> Tag.builder().name(n).build());
+    }
+
+    public Cuisine cuisine(String name) {
+        return resolve(cuisines, name, n -> Cuisine.builder().name(n).build());
+    }
+
+    public List<MealType> mealTypes(List<String> names) {
+        return resolveAll(names, this::mealType);
+    }
+
+    public MealType mealType(String name) {
+        return resolve(mealTypes, name, n -> MealType.builder().name(n).build());
+    }
+
+    /**
+     * Entries created since the last {@link #clearAdded()}, in creation order.
+     */
+    public List<Object> getAdded() {
+        return added;
+    }
+
+    public void clearAdded() {
+        added.clear();
+    }
+
+    public int size() {
+        return tags.size() + cuisines.size() + mealTypes.size();
+    }
+
+    private <T> T resolve(Map<String, T> entries, String name, Function<String, T> factory) {
+        if (name == null) {
+            return null;
+        }
+        T entry = entries.get(name);
+        if (entry == null) {
+            entry = factory.apply(name);
+            entries.put(name, entry);
+            added.add(entry);
+        }
+        return entry;
+    }
+
+    private <T> List<T> resolveAll(List<String> names, Function<String, T> resolver) {
+        if (names == null) {
+            return null;
+        }
+        List<T> entries = new ArrayList<>(names.size());
+        for (String name : names) {
+            T entry = resolver.apply(name);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,102 @@
+package com.recipe_project.recipe.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
+/**
+ * Refuses to start on a persistent catalog database written by a build with a different table
+ * layout. {@code ddl-auto=update} only adds tables and columns: it never drops the old
+ * {@code recipe_tags.tags} text column, relaxes its NOT NULL, or adds the dictionary foreign keys
+ * and unique constraints, so loading into such a file fails or corrupts it. The layout version is
+ * kept in a one-row {@code catalog_schema_version} table; a database that holds recipes without
+ * one predates versioning.
+ * <p>
+ * Bump {@link #SCHEMA_VERSION} with every entity change that {@code update} cannot apply.
+ */
+public class CatalogSchemaGuard {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSchemaGuard.class);
+
+    /** 2: tags, cuisines and meal types in dictionary tables. */
+    public static final int SCHEMA_VERSION = 2;
+
+    static final String VERSION_TABLE = "catalog_schema_version";
+    private static final String CATALOG_TABLE = "recipes";
+    private static final int UNVERSIONED = 1;
+
+    private final DataSource dataSource;
+
+    public CatalogSchemaGuard(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Records the current version in a database without a catalog, and checks it in one that has
+     * a catalog.
+     *
+     * @throws IllegalStateException if the stored catalog was written with another layout
+     */
+    public void verify() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            boolean hasCatalog = hasTable(metaData, CATALOG_TABLE);
+            boolean versioned = hasTable(metaData, VERSION_TABLE);
+            if (!hasCatalog) {
+                record(connection, versioned);
+                return;
+            }
+            int version = versioned ? storedVersion(connection) : UNVERSIONED;
+            if (version != SCHEMA_VERSION) {
+                throw new IllegalStateException("The catalog database " + metaData.getURL() + " has schema version "
+                        + version + " but this build needs " + SCHEMA_VERSION + ", which ddl-auto=update cannot "
+                        + "migrate to. Delete the database file (./data/recipedb.mv.db in the persistent profile) and "
+                        + "restart; the catalog is then restored from the snapshot or refetched.");
+            }
+            logger.debug("Catalog database schema is at version {}", version);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not check the catalog database schema version: " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean hasTable(DatabaseMetaData metaData, String table) throws SQLException {
+        try (ResultSet tables = metaData.getTables(null, null, "%", new String[]{"TABLE"})) {
+            while (tables.next()) {
+                if (table.equalsIgnoreCase(tables.getString("TABLE_NAME"))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static int storedVersion(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT MAX(version) FROM " + VERSION_TABLE)) {
+            return rows.next() && rows.getObject(1) != null ? rows.getInt(1) : UNVERSIONED;
+        }
+    }
+
+    private static void record(Connection connection, boolean versioned) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (versioned) {
+                statement.executeUpdate("DELETE FROM " + VERSION_TABLE);
+            } else {
+                statement.executeUpdate("CREATE TABLE " + VERSION_TABLE + " (version INT NOT NULL)");
+            }
+            statement.executeUpdate(String.format(Locale.ROOT, "INSERT INTO %s (version) VALUES (%d)",
+                    VERSION_TABLE, SCHEMA_VERSION));
+        }
+        if (!connection.getAutoCommit()) {
+            connection.commit();
+        }
+        logger.info("Recorded catalog database schema version {}", SCHEMA_VERSION);
+    }
+}
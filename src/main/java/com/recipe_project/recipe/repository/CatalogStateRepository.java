@@ -0,0 +1,9 @@
+package com.recipe_project.recipe.repository;
+
+import com.recipe_project.recipe.entity.CatalogState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CatalogStateRepository extends JpaRepository<CatalogState, Long> {
+}
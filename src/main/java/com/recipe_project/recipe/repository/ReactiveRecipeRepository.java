@@ -0,0 +1,119 @@
+package com.recipe_project.recipe.repository;
+
+import com.recipe_project.recipe.entity.Cuisine;
+import com.recipe_project.recipe.entity.MealType;
+import com.recipe_project.recipe.entity.Recipe;
+import com.recipe_project.recipe.entity.Tag;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Non-blocking read access to the recipe tables over R2DBC. Reads the same schema
+ * Hibernate maintains for {@link Recipe}; recipes are streamed in id order and their
+ * element collections are fetched one batch of recipes at a time, so demand from the
+ * subscriber bounds how many rows are in flight.
+ */
+@Repository
+public class ReactiveRecipeRepository {
+
+    private static final int COLLECTION_BATCH_SIZE = 256;
+
+    private static final String RECIPE_COLUMNS = "SELECT r.id, r.name, r.cook_time_minutes, r.prep_time_minutes, r.servings, " +
+            "r.difficulty, c.name AS cuisine, r.image, r.rating, r.review_count, r.calories_per_serving, r.user_id " +
+            "FROM recipes r LEFT JOIN cuisines c ON c.id = r.cuisine_id";
+
+    private static final String TAGS = "SELECT rt.recipe_id, t.name AS item FROM recipe_tags rt " +
+            "JOIN tags t ON t.id = rt.tag_id WHERE rt.recipe_id IN (:ids)";
+    private static final String INGREDIENTS = "SELECT recipe_id, ingredients AS item FROM recipe_ingredients " +
+            "WHERE recipe_id IN (:ids)";
+    private static final String INSTRUCTIONS = "SELECT recipe_id, instructions AS item FROM recipe_instructions " +
+            "WHERE recipe_id IN (:ids)";
+    private static final String MEAL_TYPES = "SELECT rm.recipe_id, m.name AS item FROM recipe_meal_types rm " +
+            "JOIN meal_types m ON m.id = rm.meal_type_id WHERE rm.recipe_id IN (:ids)";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveRecipeRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<Recipe> findAll() {
+        return databaseClient.sql(RECIPE_COLUMNS + " ORDER BY r.id")
+                .map(ReactiveRecipeRepository::toRecipe)
+                .all()
+                .buffer(COLLECTION_BATCH_SIZE)
+                .concatMap(this::withCollections, 1);
+    }
+
+    public Mono<Recipe> findById(Long id) {
+        return databaseClient.sql(RECIPE_COLUMNS + " WHERE r.id = :id")
+                .bind("id", id)
+                .map(ReactiveRecipeRepository::toRecipe)
+                .one()
+                .flatMap(recipe -> withCollections(List.of(recipe)).next());
+    }
+
+    private Flux<Recipe> withCollections(List<Recipe> recipes) {
+        Map<Long, Recipe> byId = new HashMap<>(recipes.size() * 2);
+        for (Recipe recipe : recipes) {
+            recipe.setTags(new ArrayList<>());
+            recipe.setIngredients(new ArrayList<>());
+            recipe.setInstructions(new ArrayList<>());
+            recipe.setMealType(new ArrayList<>());
+            byId.put(recipe.getId(), recipe);
+        }
+        List<Long> ids = List.copyOf(byId.keySet());
+
+        // One entity per dictionary name within the batch, as a JPA persistence context would give
+        Map<String, Tag> tags = new HashMap<>();
+        Map<String, MealType> mealTypes = new HashMap<>();
+        return Flux.concat(
+                        loadCollection(TAGS, ids, byId, (recipe, value) -> recipe.getTags()
+                                .add(tags.computeIfAbsent(value, name -> Tag.builder().name(name).build()))),
+                        loadCollection(INGREDIENTS, ids, byId, (recipe, value) -> recipe.getIngredients().add(value)),
+                        loadCollection(INSTRUCTIONS, ids, byId, (recipe, value) -> recipe.getInstructions().add(value)),
+                        loadCollection(MEAL_TYPES, ids, byId, (recipe, value) -> recipe.getMealType()
+                                .add(mealTypes.computeIfAbsent(value, name -> MealType.builder().name(name).build()))))
+                .thenMany(Flux.fromIterable(recipes));
+    }
+
+    private Mono<Void> loadCollection(String sql, List<Long> ids, Map<Long, Recipe> byId,
+                                      BiConsumer<Recipe, String> collector) {
+        return databaseClient.sql(sql)
+                .bind("ids", ids)
+                .map(row -> Map.entry(row.get("recipe_id", Long.class), row.get("item", String.class)))
+                .all()
+                .doOnNext(entry -> collector.accept(byId.get(entry.getKey()), entry.getValue()))
+                .then();
+    }
+
+    private static Cuisine cuisine(String name) {
+        return name == null ? null : Cuisine.builder().name(name).build();
+    }
+
+    private static Recipe toRecipe(Readable row) {
+        return Recipe.builder()
+                .id(row.get("id", Long.class))
+                .name(row.get("name", String.class))
+                .cookTimeMinutes(row.get("cook_time_minutes", Integer.class))
+                .prepTimeMinutes(row.get("prep_time_minutes", Integer.class))
+                .servings(row.get("servings", Integer.class))
+                .difficulty(row.get("difficulty", String.class))
+                .cuisine(cuisine(row.get("cuisine", String.class)))
+                .image(row.get("image", String.class))
+                .rating(row.get("rating", Double.class))
+                .reviewCount(row.get("review_count", Integer.class))
+                .caloriesPerServing(row.get("calories_per_serving", Integer.class))
+                .userId(row.get("user_id", Integer.class))
+                .build();
+    }
+}
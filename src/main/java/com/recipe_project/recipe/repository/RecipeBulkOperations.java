@@ -0,0 +1,30 @@
+package com.recipe_project.recipe.repository;
+
+/**
+ * Set-based operations on the whole catalog that bypass per-entity lifecycle handling.
+ */
+public interface RecipeBulkOperations {
+
+    /**
+     * Deletes every recipe and its tag, ingredient, instruction and meal type rows with one
+     * {@code DELETE} per table, collection tables first. The tag, cuisine and meal type
+     * dictionaries are kept for the next load. Unlike {@code deleteAll()} nothing is
+     * loaded into the persistence context, which is cleared afterwards.
+     *
+     * @return the number of recipes deleted
+     */
+    int deleteAllInBulk();
+
+    /**
+     * Loads every stored tag, cuisine and meal type, so mapping a catalog reuses their rows.
+     */
+    CatalogDictionary loadDictionary();
+
+    /**
+     * Persists the entries {@code dictionary} created since it was loaded or last saved. Call this
+     * before saving recipes that reference them.
+     *
+     * @return the number of entries persisted
+     */
+    int saveDictionary(CatalogDictionary dictionary);
+}
@@ -0,0 +1,64 @@
+package com.recipe_project.recipe.repository;
+
+import com.recipe_project.recipe.entity.Cuisine;
+import com.recipe_project.recipe.entity.MealType;
+import com.recipe_project.recipe.entity.Tag;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+class RecipeBulkOperationsImpl implements RecipeBulkOperations {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecipeBulkOperationsImpl.class);
+
+    // Collection and join tables of Recipe; they reference recipes.id
+    private static final List<String> COLLECTION_TABLES = List.of(
+            "recipe_tags", "recipe_ingredients", "recipe_instructions", "recipe_meal_types");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int deleteAllInBulk() {
+        // Pending inserts must reach the database before it is emptied underneath them
+        entityManager.flush();
+
+        int collectionRows = 0;
+        for (String table : COLLECTION_TABLES) {
+            collectionRows += entityManager.createNativeQuery("DELETE FROM " + table).executeUpdate();
+        }
+        int recipes = entityManager.createNativeQuery("DELETE FROM recipes").executeUpdate();
+
+        // Managed instances now refer to deleted rows
+        entityManager.clear();
+        logger.info("Bulk deleted {} recipes and {} collection rows", recipes, collectionRows);
+        return recipes;
+    }
+
+    @Override
+    @Transactional
+    public CatalogDictionary loadDictionary() {
+        return new CatalogDictionary(
+                entityManager.createQuery("SELECT t FROM Tag t", Tag.class).getResultList(),
+                entityManager.createQuery("SELECT c FROM Cuisine c", Cuisine.class).getResultList(),
+                entityManager.createQuery("SELECT m FROM MealType m", MealType.class).getResultList());
+    }
+
+    @Override
+    @Transactional
+    public int saveDictionary(CatalogDictionary dictionary) {
+        List<Object> added = dictionary.getAdded();
+        int count = added.size();
+        added.forEach(entityManager::persist);
+        dictionary.clearAdded();
+        if (count > 0) {
+            logger.info("Added {} dictionary entries ({} in total)", count, dictionary.size());
+        }
+        return count;
+    }
+}
@@ -6,13 +6,38 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface RecipeRepository extends JpaRepository<Recipe,Long> {    @Query("SELECT DISTINCT r FROM Recipe r LEFT JOIN r.tags t LEFT JOIN r.ingredients i WHERE " +
+public interface RecipeRepository extends JpaRepository<Recipe,Long>, RecipeBulkOperations {
+
+    // Tag and cuisine names are matched once against the small dictionary tables; recipes are
+    // then joined on the matching ids rather than comparing the text on every recipe row
+    String SEARCH_PREDICATE = " FROM Recipe r LEFT JOIN r.cuisine c LEFT JOIN r.tags t LEFT JOIN r.ingredients i WHERE " +
            "LOWER(r.name) LIKE LOWER(CONCAT('%', :query, '%')) " +
-           "OR LOWER(r.cuisine) LIKE LOWER(CONCAT('%', :query, '%')) " +
-           "OR LOWER(t) LIKE LOWER(CONCAT('%', :query, '%')) " +
-           "OR LOWER(i) LIKE LOWER(CONCAT('%', :query, '%'))")
+           "OR c.id IN (SELECT dc.id FROM Cuisine dc WHERE LOWER(dc.name) LIKE LOWER(CONCAT('%', :query, '%'))) " +
+           "OR t.id IN (SELECT dt.id FROM Tag dt WHERE LOWER(dt.name) LIKE LOWER(CONCAT('%', :query, '%'))) " +
+           "OR LOWER(i) LIKE LOWER(CONCAT('%', :query, '%'))";
+
+    String SUMMARY_COLUMNS = "r.id AS id, r.name AS name, c.name AS cuisine, " +
+           "r.cookTimeMinutes AS cookTimeMinutes, r.image AS image, r.rating AS rating";
+
+    @Query("SELECT DISTINCT r" + SEARCH_PREDICATE)
     List<Recipe> findByNameContainingIgnoreCaseOrCuisineContainingIgnoreCase(@Param("query") String query);
+
+    @Query("SELECT r.id FROM Recipe r")
+    List<Long> findAllIds();
+
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM Recipe r LEFT JOIN r.cuisine c")
+    List<RecipeSummaryView> findAllSummaries();
+
+    @Query("SELECT DISTINCT " + SUMMARY_COLUMNS + SEARCH_PREDICATE)
+    List<RecipeSummaryView> searchSummaries(@Param("query") String query);
+
+    @Query("SELECT r.id AS recipeId, t.name AS tag FROM Recipe r JOIN r.tags t")
+    List<RecipeTagView> findAllTags();
+
+    @Query("SELECT r.id AS recipeId, t.name AS tag FROM Recipe r JOIN r.tags t WHERE r.id IN :ids")
+    List<RecipeTagView> findTagsByRecipeIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,19 @@
+package com.recipe_project.recipe.repository;
+
+/**
+ * Interface projection over the scalar columns of {@code recipes} needed for list cards.
+ */
+public interface RecipeSummaryView {
+
+    Long getId();
+
+    String getName();
+
+    String getCuisine();
+
+    Integer getCookTimeMinutes();
+
+    String getImage();
+
+    Double getRating();
+}
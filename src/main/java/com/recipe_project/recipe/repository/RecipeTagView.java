@@ -0,0 +1,11 @@
+package com.recipe_project.recipe.repository;
+
+/**
+ * Single row of the {@code recipe_tags} collection table, keyed by owning recipe.
+ */
+public interface RecipeTagView {
+
+    Long getRecipeId();
+
+    String getTag();
+}
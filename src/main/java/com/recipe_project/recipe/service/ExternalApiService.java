@@ -2,11 +2,15 @@ package com.recipe_project.recipe.service;
 
 import com.recipe_project.recipe.dto.ExternalApiResponse;
 import com.recipe_project.recipe.exception.ExternalApiException;
+import com.recipe_project.recipe.metrics.RecipeMetrics;
+import com.recipe_project.recipe.metrics.RecipeMetrics.Outcome;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.RetryContext;
 import org.springframework.retry.annotation.Retryable;
+import org.springframework.retry.support.RetrySynchronizationManager;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientException;
@@ -23,8 +27,14 @@ public class ExternalApiService {
     @Value("${external.api.recipes.timeout:30s}")
     private Duration timeout;
 
-    public ExternalApiService(WebClient webClient) {
+    @Value("${external.api.recipes.base-url:https://dummyjson.com}")
+    private String baseUrl;
+
+    private final RecipeMetrics recipeMetrics;
+
+    public ExternalApiService(WebClient webClient, RecipeMetrics recipeMetrics) {
         this.webClient = webClient;
+        this.recipeMetrics = recipeMetrics;
     }
 
     @Retryable(
@@ -33,9 +43,11 @@ public class ExternalApiService {
         backoff = @Backoff(delay = 1000)
     )    public ExternalApiResponse fetchAllRecipes() {
         logger.info("Fetching all recipes from external API");
+        long start = System.nanoTime();
+        boolean retry = isRetry();
 
         try {
-            return webClient.get()
+            ExternalApiResponse recipes = webClient.get()
                 .uri("/recipes?limit=0")
                 .retrieve()
                 .bodyToMono(ExternalApiResponse.class)
@@ -43,16 +55,30 @@ public class ExternalApiService {
                 .doOnSuccess(response -> logger.info("Successfully fetched recipes from external API"))
                 .doOnError(error -> logger.error("Error fetching recipes: {}", error.getMessage()))
                 .block();
+            recipeMetrics.recordExternalFetch(Outcome.SUCCESS, start, retry);
+            return recipes;
         }
         catch(WebClientException e) {
+            recipeMetrics.recordExternalFetch(Outcome.ERROR, start, retry);
             logger.error("WebClient error while fetching recipes: {}", e.getMessage());
             throw new ExternalApiException("Failed to fetch recipes from external API", e);
         }
         catch (Exception e) {
+            recipeMetrics.recordExternalFetch(Outcome.ERROR, start, retry);
             logger.error("Failed to fetch recipes: {}", e.getMessage());
             throw new RuntimeException("Failed to fetch recipes from external API", e);
         }
     }
 
+    /**
+     * Identifies the upstream catalog, so a persisted copy from another source is not reused.
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
 
+    private static boolean isRetry() {
+        RetryContext context = RetrySynchronizationManager.getContext();
+        return context != null && context.getRetryCount() > 0;
+    }
 }
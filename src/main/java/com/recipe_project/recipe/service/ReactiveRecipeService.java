@@ -0,0 +1,50 @@
+package com.recipe_project.recipe.service;
+
+import com.recipe_project.recipe.catalog.RecipeIdFilterHolder;
+import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.exception.RecipeNotFoundException;
+import com.recipe_project.recipe.mapper.RecipeMapper;
+import com.recipe_project.recipe.repository.ReactiveRecipeRepository;
+import com.recipe_project.recipe.util.ValidationUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only counterpart of {@link RecipeService} backed by R2DBC. Nothing here blocks,
+ * so responses can be streamed with backpressure to slow clients.
+ */
+@Service
+public class ReactiveRecipeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveRecipeService.class);
+
+    private final ReactiveRecipeRepository reactiveRecipeRepository;
+    private final RecipeMapper recipeMapper;
+    private final ValidationUtil validationUtil;
+    private final RecipeIdFilterHolder idFilterHolder;
+
+    public ReactiveRecipeService(ReactiveRecipeRepository reactiveRecipeRepository, RecipeMapper recipeMapper, ValidationUtil validationUtil, RecipeIdFilterHolder idFilterHolder) {
+        this.reactiveRecipeRepository = reactiveRecipeRepository;
+        this.recipeMapper = recipeMapper;
+        this.validationUtil = validationUtil;
+        this.idFilterHolder = idFilterHolder;
+    }
+
+    public Flux<RecipeDTO> getAllRecipes() {
+        logger.debug("Streaming all recipes");
+        return reactiveRecipeRepository.findAll()
+                .map(recipeMapper::toDTO);
+    }
+
+    public Mono<RecipeDTO> getRecipeById(Long id) {
+        return Mono.fromRunnable(() -> validationUtil.validateRecipeId(id))
+                .then(Mono.defer(() -> idFilterHolder.mightContain(id)
+                        ? reactiveRecipeRepository.findById(id)
+                        : Mono.error(new RecipeNotFoundException(id))))
+                .switchIfEmpty(Mono.error(() -> new RecipeNotFoundException(id)))
+                .map(recipeMapper::toDTO);
+    }
+}
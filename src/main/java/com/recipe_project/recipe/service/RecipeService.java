@@ -1,19 +1,51 @@
 package com.recipe_project.recipe.service;
 
+import com.recipe_project.recipe.catalog.RecipeCatalog;
+import com.recipe_project.recipe.catalog.RecipeCatalogHolder;
+import com.recipe_project.recipe.catalog.RecipeIdFilter;
+import com.recipe_project.recipe.catalog.RecipeIdFilterHolder;
 import com.recipe_project.recipe.dto.ExternalApiResponse;
 import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.dto.RecipeSummaryDTO;
+import com.recipe_project.recipe.entity.CatalogState;
 import com.recipe_project.recipe.entity.Recipe;
 import com.recipe_project.recipe.exception.RecipeNotFoundException;
 import com.recipe_project.recipe.mapper.RecipeMapper;
+import com.recipe_project.recipe.metrics.RecipeMetrics;
+import com.recipe_project.recipe.metrics.RecipeMetrics.Operation;
+import com.recipe_project.recipe.metrics.RecipeMetrics.Outcome;
+import com.recipe_project.recipe.metrics.RecipeTracing;
+import com.recipe_project.recipe.repository.CatalogDictionary;
+import com.recipe_project.recipe.repository.CatalogStateRepository;
 import com.recipe_project.recipe.repository.RecipeRepository;
+import com.recipe_project.recipe.repository.RecipeSummaryView;
+import com.recipe_project.recipe.repository.RecipeTagView;
+import com.recipe_project.recipe.snapshot.CatalogSnapshot;
+import com.recipe_project.recipe.snapshot.CatalogSnapshotStore;
 import com.recipe_project.recipe.util.ValidationUtil;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,76 +58,381 @@ public class RecipeService {
     private final ExternalApiService externalApiService;
     private final RecipeMapper recipeMapper;
     private final ValidationUtil validationUtil;
+    private final RecipeMetrics recipeMetrics;
+    private final RecipeTracing recipeTracing;
+    private final CatalogStateRepository catalogStateRepository;
+    private final CatalogSnapshotStore catalogSnapshotStore;
+    private final RecipeCatalogHolder catalogHolder;
+    private final RecipeIdFilterHolder idFilterHolder;
+    private final TransactionTemplate readTransaction;
+    private final ReentrantLock catalogReplacement = new ReentrantLock();
 
-    public RecipeService(RecipeRepository recipeRepository, ExternalApiService externalApiService, RecipeMapper recipeMapper, ValidationUtil validationUtil) {
+    public RecipeService(RecipeRepository recipeRepository, ExternalApiService externalApiService, RecipeMapper recipeMapper, ValidationUtil validationUtil, RecipeMetrics recipeMetrics, RecipeTracing recipeTracing, CatalogStateRepository catalogStateRepository, CatalogSnapshotStore catalogSnapshotStore, RecipeCatalogHolder catalogHolder, RecipeIdFilterHolder idFilterHolder, PlatformTransactionManager transactionManager) {
         this.recipeRepository = recipeRepository;
         this.externalApiService = externalApiService;
         this.recipeMapper = recipeMapper;
         this.validationUtil = validationUtil;
+        this.recipeMetrics = recipeMetrics;
+        this.recipeTracing = recipeTracing;
+        this.catalogStateRepository = catalogStateRepository;
+        this.catalogSnapshotStore = catalogSnapshotStore;
+        this.catalogHolder = catalogHolder;
+        this.idFilterHolder = idFilterHolder;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
         logger.info("RecipeService initialized");
-    }    public int loadRecipesFromExternalApi(){
+    }
+
+    public int loadRecipesFromExternalApi(){
+        return exclusively(() -> timed(Operation.LOAD,
+                () -> recipeTracing.observe(RecipeTracing.LOAD, this::replaceCatalogFromExternalApi), Integer::intValue));
+    }
+
+    /**
+     * Runs a catalog replacement while no other one is in progress. Loads can start from the
+     * startup initializer, the refresh scheduler and {@code POST /load} at once, and two of them
+     * would insert the same new dictionary rows, so the lock is held until the surrounding
+     * transaction has completed rather than until the method returns.
+     */
+    private int exclusively(Supplier<Integer> replacement) {
+        catalogReplacement.lock();
+        boolean unlockOnCompletion = false;
+        try {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        catalogReplacement.unlock();
+                    }
+                });
+                unlockOnCompletion = true;
+            }
+            return replacement.get();
+        } finally {
+            if (!unlockOnCompletion) {
+                catalogReplacement.unlock();
+            }
+        }
+    }
+
+    private int replaceCatalogFromExternalApi() {
         logger.info("Starting to load recipes from external API");
 
-        ExternalApiResponse response = externalApiService.fetchAllRecipes();
+        ExternalApiResponse response = recipeTracing.observe(RecipeTracing.LOAD_FETCH, externalApiService::fetchAllRecipes);
 
         if(response == null || response.getRecipes() == null) {
             logger.error("Failed to fetch recipes from external API");
             return 0;
         }
 
-        List<Recipe> recipes = response.getRecipes().stream()
-                .map(recipeMapper::toEntity)
+        CatalogSnapshot snapshot = new CatalogSnapshot(Instant.now(), externalApiService.getBaseUrl(), response.getRecipes());
+        int loaded = replaceCatalog(snapshot);
+        saveSnapshotAfterCommit(snapshot);
+        logger.info("Successfully loaded {} recipes from external API", loaded);
+        return loaded;
+    }
+
+    /**
+     * Writes the snapshot once the catalog rows have committed, so a failed commit never leaves a
+     * snapshot on disk that is newer than the database for the next start to restore.
+     */
+    private void saveSnapshotAfterCommit(CatalogSnapshot snapshot) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    catalogSnapshotStore.save(snapshot);
+                }
+            });
+        } else {
+            catalogSnapshotStore.save(snapshot);
+        }
+    }
+
+    /**
+     * Restores the catalog from the stored snapshot when it was taken from the configured
+     * upstream within {@code maxAge}, skipping the HTTP fetch and JSON decode.
+     *
+     * @return the number of recipes restored, or 0 when there is no usable snapshot
+     */
+    public int restoreFromSnapshot(Duration maxAge) {
+        return exclusively(() -> timed(Operation.LOAD, () -> recipeTracing.observe(RecipeTracing.LOAD, () -> recipeTracing
+                .observe(RecipeTracing.LOAD_SNAPSHOT, () -> catalogSnapshotStore.loadFresh(externalApiService.getBaseUrl(), maxAge))
+                .map(this::replaceCatalog)
+                .orElse(0)), Integer::intValue));
+    }
+
+    private int replaceCatalog(CatalogSnapshot snapshot) {
+        // Set-based delete of the old catalog; it clears the persistence context, so the
+        // dictionary is loaded afterwards to keep its entries managed for the inserts
+        recipeTracing.observe(RecipeTracing.LOAD_DELETE, () -> recipeRepository.deleteAllInBulk());
+
+        CatalogDictionary dictionary = recipeRepository.loadDictionary();
+        List<Recipe> recipes = recipeTracing.observe(RecipeTracing.LOAD_MAP, () -> snapshot.recipes().stream()
+                .map(dto -> recipeMapper.toEntity(dto, dictionary))
                 .peek(recipe -> recipe.setId(null)) // Clear ID to allow auto-generation
-                .collect(Collectors.toList());
-
-        recipeRepository.deleteAll();
-        
-        // Flush to ensure deleteAll is completed before saving new data
-        recipeRepository.flush();
-        
-        List<Recipe> savedRecipes = recipeRepository.saveAll(recipes);
-        logger.info("Successfully loaded {} recipes from external API", savedRecipes.size());
+                .collect(Collectors.toList()));
+
+        List<Recipe> savedRecipes = recipeTracing.observe(RecipeTracing.LOAD_INSERT, () -> {
+            recipeRepository.saveDictionary(dictionary);
+            return recipeRepository.saveAll(recipes);
+        });
+        catalogStateRepository.save(CatalogState.builder()
+                .id(CatalogState.SINGLETON_ID)
+                .loadedAt(snapshot.createdAt())
+                .recipeCount(savedRecipes.size())
+                .source(snapshot.source())
+                .build());
+        idFilterHolder.publish(RecipeIdFilter.of(savedRecipes.stream().mapToLong(Recipe::getId).toArray()));
+        publishReadModel(savedRecipes);
         return savedRecipes.size();
-    }@Transactional
+    }
+
+    /**
+     * Builds the in-memory read model and the id filter from the stored catalog, for starts that
+     * keep the catalog already in the database.
+     *
+     * @return the number of recipes in the read model, or 0 when the read model is disabled
+     */
+    public int rebuildReadModel() {
+        if (!catalogHolder.isEnabled()) {
+            if (idFilterHolder.isEnabled()) {
+                List<Long> ids = recipeTracing.observe(RecipeTracing.READ_QUERY, () -> recipeRepository.findAllIds());
+                idFilterHolder.publish(RecipeIdFilter.of(ids.stream().mapToLong(Long::longValue).toArray()));
+            }
+            return 0;
+        }
+        List<Recipe> recipes = recipeTracing.observe(RecipeTracing.READ_QUERY, () -> recipeRepository.findAll(Sort.by("id")));
+        idFilterHolder.publish(RecipeIdFilter.of(recipes.stream().mapToLong(Recipe::getId).toArray()));
+        publishReadModel(recipes);
+        return recipes.size();
+    }
+
+    private void publishReadModel(List<Recipe> recipes) {
+        if (!catalogHolder.isEnabled()) {
+            return;
+        }
+        RecipeCatalog catalog = recipeTracing.observe(RecipeTracing.LOAD_INDEX, () -> {
+            List<Recipe> byId = new ArrayList<>(recipes);
+            byId.sort(Comparator.comparing(Recipe::getId));
+            RecipeCatalog.Builder builder = catalogHolder.builder(byId.size());
+            for (Recipe recipe : byId) {
+                builder.add(recipe.getId(), recipeMapper.toDTO(recipe));
+            }
+            return builder.build();
+        });
+        catalogHolder.publish(catalog);
+    }
+
+    /**
+     * True when the stored catalog came from the configured upstream, completed loading within
+     * {@code maxAge}, and still holds the number of recipes that load saved. A zero
+     * {@code maxAge} always asks for a refetch.
+     */
+    @Transactional
+    public boolean isCatalogFresh(Duration maxAge) {
+        if (maxAge.isZero() || maxAge.isNegative()) {
+            return false;
+        }
+        Instant oldestAcceptable = Instant.now().minus(maxAge);
+        return catalogStateRepository.findById(CatalogState.SINGLETON_ID)
+                .filter(state -> Objects.equals(state.getSource(), externalApiService.getBaseUrl()))
+                .filter(state -> state.getLoadedAt().isAfter(oldestAcceptable))
+                .filter(state -> state.getRecipeCount() == recipeRepository.count())
+                .isPresent();
+    }
+
+    // The read entry points only join a caller's transaction, so that reads served by the read
+    // model never begin one or take a pooled connection; database reads use inReadTransaction
+    @Transactional(Transactional.TxType.SUPPORTS)
     public List<RecipeDTO> searchRecipes(String query) {
-        logger.debug("Searching recipes with query: {}", query);
+        return timed(Operation.SEARCH, () -> findRecipes(query), List::size);
+    }
 
-        List<Recipe> recipes;
+    private List<RecipeDTO> findRecipes(String query) {
+        logger.debug("Searching recipes with query: {}", query);
 
-        if(StringUtils.hasText(query)) {
-            validationUtil.validateSearchQuery(query);
-            recipes = recipeRepository.findByNameContainingIgnoreCaseOrCuisineContainingIgnoreCase(
-                    query.trim());
-            logger.debug("Found {} recipes matching query: {}", recipes.size(), query);
-        } else {
-            logger.debug("Empty search query provided, returning all recipes");
-            recipes = recipeRepository.findAll();
+        Optional<RecipeCatalog> catalog = catalogHolder.current();
+        if (catalog.isPresent()) {
+            if (!StringUtils.hasText(query)) {
+                return recipeTracing.observe(RecipeTracing.READ_MAP, () -> catalog.get().all());
+            }
+            return toDTOs(catalog.get(), matching(catalog.get(), query));
         }
 
-        return recipes.stream()
-                .map(recipeMapper::toDTO)
-                .collect(Collectors.toList());
+        return inReadTransaction(() -> {
+            List<Recipe> recipes;
+
+            if(StringUtils.hasText(query)) {
+                validationUtil.validateSearchQuery(query);
+                recipes = recipeTracing.observe(RecipeTracing.READ_QUERY,
+                        () -> recipeRepository.findByNameContainingIgnoreCaseOrCuisineContainingIgnoreCase(query.trim()));
+                logger.debug("Found {} recipes matching query: {}", recipes.size(), query);
+            } else {
+                logger.debug("Empty search query provided, returning all recipes");
+                recipes = recipeTracing.observe(RecipeTracing.READ_QUERY, () -> recipeRepository.findAll());
+            }
+
+            return toDTOs(recipes);
+        });
     }
 
-    @Transactional
+    @Transactional(Transactional.TxType.SUPPORTS)
     public RecipeDTO getRecipeById(Long id) {
+        return timed(Operation.GET_BY_ID, () -> findRecipe(id), recipe -> 1);
+    }
+
+    private RecipeDTO findRecipe(Long id) {
         validationUtil.validateRecipeId(id);
         logger.debug("Fetching recipe with ID: {}", id);
 
-        Recipe recipe = recipeRepository.findById(id)
-                .orElseThrow(() -> new RecipeNotFoundException("Recipe not found with ID: " + id));
+        // Ids the catalog never had are turned away before the read model or a query
+        if (!idFilterHolder.mightContain(id)) {
+            throw new RecipeNotFoundException(id);
+        }
+
+        Optional<RecipeCatalog> catalog = catalogHolder.current();
+        if (catalog.isPresent()) {
+            int position = recipeTracing.observe(RecipeTracing.READ_QUERY, () -> catalog.get().indexOf(id));
+            if (position < 0) {
+                throw new RecipeNotFoundException(id);
+            }
+            return recipeTracing.observe(RecipeTracing.READ_MAP, () -> catalog.get().toDTO(position));
+        }
+
+        return inReadTransaction(() -> {
+            Recipe recipe = recipeTracing.observe(RecipeTracing.READ_QUERY, () -> recipeRepository.findById(id))
+                    .orElseThrow(() -> new RecipeNotFoundException(id));
 
-        return recipeMapper.toDTO(recipe);
+            return recipeTracing.observe(RecipeTracing.READ_MAP, () -> recipeMapper.toDTO(recipe));
+        });
     }
 
-    @Transactional
+    @Transactional(Transactional.TxType.SUPPORTS)
     public List<RecipeDTO> getAllRecipes() {
+        return timed(Operation.GET_ALL, this::findAllRecipes, List::size);
+    }
+
+    private List<RecipeDTO> findAllRecipes() {
         logger.debug("Fetching all recipes");
-        List<Recipe> recipes = recipeRepository.findAll();
-        return recipes.stream()
+        Optional<RecipeCatalog> catalog = catalogHolder.current();
+        if (catalog.isPresent()) {
+            return recipeTracing.observe(RecipeTracing.READ_MAP, () -> catalog.get().all());
+        }
+        return inReadTransaction(() -> toDTOs(recipeTracing.observe(RecipeTracing.READ_QUERY, () -> recipeRepository.findAll())));
+    }
+
+    /**
+     * Runs a database read in its own read-only transaction, which keeps the session open while
+     * the mapper walks lazy collections.
+     */
+    private <T> T inReadTransaction(Supplier<T> read) {
+        return readTransaction.execute(status -> read.get());
+    }
+
+    private List<RecipeDTO> toDTOs(List<Recipe> recipes) {
+        return recipeTracing.observe(RecipeTracing.READ_MAP, () -> recipes.stream()
                 .map(recipeMapper::toDTO)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Positions of the recipes matching the non-blank {@code query} in {@code catalog}. Validates
+     * the query like the database path does.
+     */
+    private int[] matching(RecipeCatalog catalog, String query) {
+        validationUtil.validateSearchQuery(query);
+        return recipeTracing.observe(RecipeTracing.READ_QUERY, () -> catalog.search(query.trim()));
+    }
+
+    private List<RecipeDTO> toDTOs(RecipeCatalog catalog, int[] positions) {
+        return recipeTracing.observe(RecipeTracing.READ_MAP, () -> Arrays.stream(positions)
+                .mapToObj(catalog::toDTO)
+                .collect(Collectors.toList()));
+    }
+
+    private List<RecipeSummaryDTO> toSummaryDTOs(RecipeCatalog catalog, int[] positions) {
+        return recipeTracing.observe(RecipeTracing.READ_MAP, () -> Arrays.stream(positions)
+                .mapToObj(catalog::toSummaryDTO)
+                .collect(Collectors.toList()));
     }
 
+    /**
+     * Lists recipe summaries without touching the ingredient or instruction tables.
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<RecipeSummaryDTO> getAllRecipeSummaries() {
+        return timed(Operation.GET_ALL_SUMMARY, this::findAllSummaries, List::size);
+    }
+
+    private List<RecipeSummaryDTO> findAllSummaries() {
+        logger.debug("Fetching all recipe summaries");
+        Optional<RecipeCatalog> catalog = catalogHolder.current();
+        if (catalog.isPresent()) {
+            return recipeTracing.observe(RecipeTracing.READ_MAP, () -> catalog.get().allSummaries());
+        }
+        return inReadTransaction(() -> {
+            List<RecipeSummaryView> summaries = recipeTracing.observe(RecipeTracing.READ_QUERY, () -> recipeRepository.findAllSummaries());
+            if (summaries.isEmpty()) {
+                return List.of();
+            }
+            return toSummaryDTOs(summaries, recipeTracing.observe(RecipeTracing.READ_QUERY, () -> recipeRepository.findAllTags()));
+        });
+    }
+
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<RecipeSummaryDTO> searchRecipeSummaries(String query) {
+        return timed(Operation.SEARCH_SUMMARY, () -> findSummaries(query), List::size);
+    }
+
+    private List<RecipeSummaryDTO> findSummaries(String query) {
+        logger.debug("Searching recipe summaries with query: {}", query);
 
+        if(!StringUtils.hasText(query)) {
+            return findAllSummaries();
+        }
+
+        Optional<RecipeCatalog> catalog = catalogHolder.current();
+        if (catalog.isPresent()) {
+            return toSummaryDTOs(catalog.get(), matching(catalog.get(), query));
+        }
+
+        validationUtil.validateSearchQuery(query);
+        return inReadTransaction(() -> {
+            List<RecipeSummaryView> summaries = recipeTracing.observe(RecipeTracing.READ_QUERY, () -> recipeRepository.searchSummaries(query.trim()));
+            logger.debug("Found {} recipe summaries matching query: {}", summaries.size(), query);
+            if (summaries.isEmpty()) {
+                return List.of();
+            }
+
+            List<Long> ids = summaries.stream()
+                    .map(RecipeSummaryView::getId)
+                    .collect(Collectors.toList());
+            return toSummaryDTOs(summaries, recipeTracing.observe(RecipeTracing.READ_QUERY, () -> recipeRepository.findTagsByRecipeIds(ids)));
+        });
+    }
+
+    private List<RecipeSummaryDTO> toSummaryDTOs(List<RecipeSummaryView> summaries, List<RecipeTagView> tagRows) {
+        Map<Long, List<String>> tagsByRecipe = tagRows.stream()
+                .collect(Collectors.groupingBy(RecipeTagView::getRecipeId,
+                        Collectors.mapping(RecipeTagView::getTag, Collectors.toList())));
+
+        return recipeTracing.observe(RecipeTracing.READ_MAP, () -> summaries.stream()
+                .map(summary -> recipeMapper.toSummaryDTO(summary,
+                        tagsByRecipe.getOrDefault(summary.getId(), List.of())))
+                .collect(Collectors.toList()));
+    }
+
+    private <T> T timed(Operation operation, Supplier<T> body, ToIntFunction<T> resultSize) {
+        long start = System.nanoTime();
+        try {
+            T result = body.get();
+            recipeMetrics.recordResultSize(operation, resultSize.applyAsInt(result));
+            recipeMetrics.recordOperation(operation, Outcome.SUCCESS, start);
+            return result;
+        } catch (RuntimeException e) {
+            recipeMetrics.recordOperation(operation, RecipeMetrics.outcomeOf(e), start);
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,12 @@
+package com.recipe_project.recipe.snapshot;
+
+import com.recipe_project.recipe.dto.RecipeDTO;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A catalog as fetched from upstream, with when and where it was fetched from.
+ */
+public record CatalogSnapshot(Instant createdAt, String source, List<RecipeDTO> recipes) {
+}
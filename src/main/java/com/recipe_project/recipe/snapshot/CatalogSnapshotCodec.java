@@ -0,0 +1,278 @@
+package com.recipe_project.recipe.snapshot;
+
+import com.recipe_project.recipe.dto.RecipeDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Binary encoding of a {@link CatalogSnapshot}.
+ * <pre>
+ * magic "RCPS" | version | createdAt millis | source
+ * dictionary: count, then (byte length, UTF-8 bytes) per distinct string
+ * recipes:    count, then per recipe the RecipeDTO fields in declaration order
+ * CRC32 of everything before it (4 bytes, big-endian)
+ * </pre>
+ * Integers are unsigned LEB128 varints. Every string field is an index into the dictionary, so a
+ * tag or cuisine repeated across the catalog is stored once. Nullable values are shifted by one so
+ * that {@code 0} means null; signed ints are zigzag-encoded first. Ratings are raw IEEE-754 bits
+ * behind a presence byte so they round-trip exactly.
+ */
+public final class CatalogSnapshotCodec {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final byte[] MAGIC = {'R', 'C', 'P', 'S'};
+    private static final int CRC_BYTES = Integer.BYTES;
+
+    private CatalogSnapshotCodec() {
+    }
+
+    public static void encode(CatalogSnapshot snapshot, OutputStream target) throws IOException {
+        Map<String, Integer> dictionary = buildDictionary(snapshot);
+        CheckedOutputStream out = new CheckedOutputStream(target, new CRC32());
+
+        out.write(MAGIC);
+        writeVarLong(out, FORMAT_VERSION);
+        writeVarLong(out, snapshot.createdAt().toEpochMilli());
+        writeString(out, dictionary, snapshot.source());
+
+        writeVarLong(out, dictionary.size());
+        for (String value : dictionary.keySet()) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(out, bytes.length);
+            out.write(bytes);
+        }
+
+        writeVarLong(out, snapshot.recipes().size());
+        for (RecipeDTO recipe : snapshot.recipes()) {
+            writeNullableLong(out, recipe.getId());
+            writeString(out, dictionary, recipe.getName());
+            writeNullableInt(out, recipe.getCookTimeMinutes());
+            writeNullableInt(out, recipe.getPrepTimeMinutes());
+            writeNullableInt(out, recipe.getServings());
+            writeString(out, dictionary, recipe.getDifficulty());
+            writeStrings(out, dictionary, recipe.getTags());
+            writeStrings(out, dictionary, recipe.getIngredients());
+            writeStrings(out, dictionary, recipe.getInstructions());
+            writeString(out, dictionary, recipe.getCuisine());
+            writeString(out, dictionary, recipe.getImage());
+            writeNullableDouble(out, recipe.getRating());
+            writeNullableInt(out, recipe.getReviewCount());
+            writeNullableInt(out, recipe.getCaloriesPerServing());
+            writeNullableInt(out, recipe.getUserId());
+            writeStrings(out, dictionary, recipe.getMealType());
+        }
+
+        int crc = (int) out.getChecksum().getValue();
+        target.write(ByteBuffer.allocate(CRC_BYTES).putInt(crc).array());
+        target.flush();
+    }
+
+    /**
+     * Decodes a snapshot from {@code buffer}'s position to its limit, typically a memory-mapped file.
+     *
+     * @throws IOException if the data is truncated, corrupt, or written by an unknown format version
+     */
+    public static CatalogSnapshot decode(ByteBuffer buffer) throws IOException {
+        ByteBuffer in = buffer.slice();
+        if (in.remaining() < MAGIC.length + CRC_BYTES) {
+            throw new IOException("Snapshot is truncated");
+        }
+        verifyChecksum(in);
+        in.limit(in.limit() - CRC_BYTES);
+
+        try {
+            for (byte expected : MAGIC) {
+                if (in.get() != expected) {
+                    throw new IOException("Not a catalog snapshot");
+                }
+            }
+            long version = readVarLong(in);
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot version " + version);
+            }
+            Instant createdAt = Instant.ofEpochMilli(readVarLong(in));
+            // The source precedes the dictionary it refers into, so resolve it afterwards
+            long sourceRef = readVarLong(in);
+
+            String[] dictionary = new String[(int) readVarLong(in)];
+            for (int i = 0; i < dictionary.length; i++) {
+                byte[] bytes = new byte[(int) readVarLong(in)];
+                in.get(bytes);
+                dictionary[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            String source = lookup(dictionary, sourceRef);
+
+            int count = (int) readVarLong(in);
+            List<RecipeDTO> recipes = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                recipes.add(RecipeDTO.builder()
+                        .id(readNullableLong(in))
+                        .name(readString(in, dictionary))
+                        .cookTimeMinutes(readNullableInt(in))
+                        .prepTimeMinutes(readNullableInt(in))
+                        .servings(readNullableInt(in))
+                        .difficulty(readString(in, dictionary))
+                        .tags(readStrings(in, dictionary))
+                        .ingredients(readStrings(in, dictionary))
+                        .instructions(readStrings(in, dictionary))
+                        .cuisine(readString(in, dictionary))
+                        .image(readString(in, dictionary))
+                        .rating(readNullableDouble(in))
+                        .reviewCount(readNullableInt(in))
+                        .caloriesPerServing(readNullableInt(in))
+                        .userId(readNullableInt(in))
+                        .mealType(readStrings(in, dictionary))
+                        .build());
+            }
+            if (in.hasRemaining()) {
+                throw new IOException("Unexpected trailing bytes in snapshot");
+            }
+            return new CatalogSnapshot(createdAt, source, recipes);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Snapshot is corrupt", e);
+        }
+    }
+
+    private static void verifyChecksum(ByteBuffer in) throws IOException {
+        int payloadEnd = in.limit() - CRC_BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(in.duplicate().limit(payloadEnd));
+        if ((int) crc.getValue() != in.getInt(payloadEnd)) {
+            throw new IOException("Snapshot checksum mismatch");
+        }
+    }
+
+    private static Map<String, Integer> buildDictionary(CatalogSnapshot snapshot) {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (RecipeDTO recipe : snapshot.recipes()) {
+            intern(dictionary, recipe.getName());
+            intern(dictionary, recipe.getDifficulty());
+            intern(dictionary, recipe.getCuisine());
+            intern(dictionary, recipe.getImage());
+            internAll(dictionary, recipe.getTags());
+            internAll(dictionary, recipe.getIngredients());
+            internAll(dictionary, recipe.getInstructions());
+            internAll(dictionary, recipe.getMealType());
+        }
+        intern(dictionary, snapshot.source());
+        return dictionary;
+    }
+
+    private static void intern(Map<String, Integer> dictionary, String value) {
+        if (value != null) {
+            dictionary.putIfAbsent(value, dictionary.size());
+        }
+    }
+
+    private static void internAll(Map<String, Integer> dictionary, List<String> values) {
+        if (values != null) {
+            values.forEach(value -> intern(dictionary, value));
+        }
+    }
+
+    private static void writeString(OutputStream out, Map<String, Integer> dictionary, String value) throws IOException {
+        writeVarLong(out, value == null ? 0 : dictionary.get(value) + 1L);
+    }
+
+    private static void writeStrings(OutputStream out, Map<String, Integer> dictionary, List<String> values) throws IOException {
+        if (values == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        writeVarLong(out, values.size() + 1L);
+        for (String value : values) {
+            writeString(out, dictionary, value);
+        }
+    }
+
+    private static void writeNullableInt(OutputStream out, Integer value) throws IOException {
+        writeVarLong(out, value == null ? 0 : zigzag(value) + 1);
+    }
+
+    private static void writeNullableLong(OutputStream out, Long value) throws IOException {
+        writeVarLong(out, value == null ? 0 : zigzag(value) + 1);
+    }
+
+    private static void writeNullableDouble(OutputStream out, Double value) throws IOException {
+        if (value == null) {
+            out.write(0);
+            return;
+        }
+        out.write(1);
+        out.write(ByteBuffer.allocate(Long.BYTES).putLong(Double.doubleToLongBits(value)).array());
+    }
+
+    static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static long readVarLong(ByteBuffer in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in snapshot");
+    }
+
+    private static String lookup(String[] dictionary, long ref) {
+        return ref == 0 ? null : dictionary[(int) (ref - 1)];
+    }
+
+    private static String readString(ByteBuffer in, String[] dictionary) throws IOException {
+        return lookup(dictionary, readVarLong(in));
+    }
+
+    private static List<String> readStrings(ByteBuffer in, String[] dictionary) throws IOException {
+        long size = readVarLong(in);
+        if (size == 0) {
+            return null;
+        }
+        List<String> values = new ArrayList<>((int) (size - 1));
+        for (long i = 1; i < size; i++) {
+            values.add(readString(in, dictionary));
+        }
+        return values;
+    }
+
+    private static Integer readNullableInt(ByteBuffer in) throws IOException {
+        long encoded = readVarLong(in);
+        return encoded == 0 ? null : (int) unzigzag(encoded - 1);
+    }
+
+    private static Long readNullableLong(ByteBuffer in) throws IOException {
+        long encoded = readVarLong(in);
+        return encoded == 0 ? null : unzigzag(encoded - 1);
+    }
+
+    private static Double readNullableDouble(ByteBuffer in) {
+        return in.get() == 0 ? null : Double.longBitsToDouble(in.getLong());
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,105 @@
+package com.recipe_project.recipe.snapshot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Keeps the last fetched catalog in a binary snapshot file when
+ * {@code recipe.catalog.snapshot.enabled=true}. Snapshots are written to a temporary file and
+ * moved into place, so a crash mid-write leaves the previous snapshot intact; reads memory-map
+ * the file and decode it in one sequential pass.
+ */
+@Component
+public class CatalogSnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSnapshotStore.class);
+
+    private final boolean enabled;
+    private final Path path;
+
+    public CatalogSnapshotStore(
+            @Value("${recipe.catalog.snapshot.enabled:false}") boolean enabled,
+            @Value("${recipe.catalog.snapshot.path:data/catalog.snapshot}") Path path) {
+        this.enabled = enabled;
+        this.path = path;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Replaces the stored snapshot. Failures are logged rather than thrown: the catalog is
+     * already in the database, and the next load simply writes a new snapshot.
+     */
+    public void save(CatalogSnapshot snapshot) {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16)) {
+                    CatalogSnapshotCodec.encode(snapshot, out);
+                }
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            logger.info("Wrote catalog snapshot of {} recipes ({} bytes) to {} in {} ms",
+                    snapshot.recipes().size(), Files.size(path), path, Duration.ofNanos(System.nanoTime() - start).toMillis());
+        } catch (IOException e) {
+            logger.warn("Failed to write catalog snapshot to {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the stored snapshot if it was taken from {@code source} within {@code maxAge};
+     * a missing, stale, foreign or unreadable snapshot yields empty.
+     */
+    public Optional<CatalogSnapshot> loadFresh(String source, Duration maxAge) {
+        if (!enabled || !Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        CatalogSnapshot snapshot;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            snapshot = CatalogSnapshotCodec.decode(mapped);
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable catalog snapshot {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+
+        if (!Objects.equals(snapshot.source(), source)) {
+            logger.info("Ignoring catalog snapshot from {}; configured source is {}", snapshot.source(), source);
+            return Optional.empty();
+        }
+        if (snapshot.createdAt().isBefore(Instant.now().minus(maxAge))) {
+            logger.info("Ignoring catalog snapshot taken at {}; older than {}", snapshot.createdAt(), maxAge);
+            return Optional.empty();
+        }
+        logger.info("Read catalog snapshot of {} recipes from {} in {} ms",
+                snapshot.recipes().size(), path, Duration.ofNanos(System.nanoTime() - start).toMillis());
+        return Optional.of(snapshot);
+    }
+}
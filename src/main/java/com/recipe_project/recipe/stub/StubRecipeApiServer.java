@@ -0,0 +1,185 @@
+package com.recipe_project.recipe.stub;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embedded stand-in for the upstream {@code GET /recipes?limit=&skip=} API, serving a
+ * {@link SyntheticCatalogGenerator} catalog in the {@code ExternalApiResponse} format.
+ * {@code limit=0} returns the whole catalog, as dummyjson does. Responses are streamed
+ * recipe by recipe, so very large catalogs never sit in memory on the stub side.
+ * Latency and failures can be injected to exercise the client's timeout and retry paths.
+ */
+public class StubRecipeApiServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(StubRecipeApiServer.class);
+
+    private static final int DEFAULT_LIMIT = 30;
+
+    private final Settings settings;
+    private final ObjectMapper objectMapper;
+    private final SyntheticCatalogGenerator generator;
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public StubRecipeApiServer(Settings settings, ObjectMapper objectMapper) {
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+        this.generator = new SyntheticCatalogGenerator(settings.seed());
+    }
+
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), settings.port()), 0);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stub-recipe-api");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/recipes", this::handle);
+        server.start();
+        logger.info("Stub recipe API serving {} recipes at {}", settings.catalogSize(), getBaseUrl());
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + getPort();
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            long requestNumber = requestCount.incrementAndGet();
+            if (!"GET".equals(exchange.getRequestMethod()) || !"/recipes".equals(exchange.getRequestURI().getPath())) {
+                sendError(exchange, 404, "Not found");
+                return;
+            }
+
+            SplittableRandom random = new SplittableRandom(settings.seed() ^ requestNumber);
+            simulateLatency(random);
+            if (random.nextDouble() < settings.failureRate()) {
+                failureCount.incrementAndGet();
+                sendError(exchange, 503, "Injected failure");
+                return;
+            }
+
+            URI uri = exchange.getRequestURI();
+            int skip = Math.min(settings.catalogSize(), Math.max(0, queryParameter(uri, "skip", 0)));
+            int limit = queryParameter(uri, "limit", DEFAULT_LIMIT);
+            int count = limit <= 0 ? settings.catalogSize() - skip : Math.min(limit, settings.catalogSize() - skip);
+            writeRecipes(exchange, skip, count);
+        }
+    }
+
+    private void writeRecipes(HttpExchange exchange, int skip, int count) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream body = exchange.getResponseBody();
+             JsonGenerator json = objectMapper.getFactory().createGenerator(body)) {
+            json.writeStartObject();
+            json.writeArrayFieldStart("recipes");
+            for (int i = 0; i < count; i++) {
+                objectMapper.writeValue(json, generator.recipe(skip + i + 1L));
+            }
+            json.writeEndArray();
+            json.writeNumberField("total", settings.catalogSize());
+            json.writeNumberField("skip", skip);
+            json.writeNumberField("limit", count);
+            json.writeEndObject();
+        }
+    }
+
+    private void simulateLatency(SplittableRandom random) {
+        long latencyMillis = settings.latency().toMillis();
+        long jitterMillis = settings.latencyJitter().toMillis();
+        if (jitterMillis > 0) {
+            latencyMillis += random.nextLong(jitterMillis + 1);
+        }
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = ("{\"message\":\"" + message + "\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private static int queryParameter(URI uri, String name, int defaultValue) {
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return defaultValue;
+        }
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0 && pair.substring(0, separator).equals(name)) {
+                try {
+                    return Integer.parseInt(pair.substring(separator + 1));
+                } catch (NumberFormatException e) {
+                    return defaultValue;
+                }
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * @param port          listen port on the loopback interface, 0 for an ephemeral port
+     * @param catalogSize   number of recipes in the stub catalog
+     * @param seed          generator seed; the same seed always yields the same catalog
+     * @param latency       fixed delay added to every response
+     * @param latencyJitter upper bound of a uniformly distributed extra delay
+     * @param failureRate   fraction of requests answered with 503, between 0 and 1
+     */
+    public record Settings(int port, int catalogSize, long seed, Duration latency, Duration latencyJitter,
+                           double failureRate) {
+
+        public static Settings of(int catalogSize) {
+            return new Settings(0, catalogSize, 42L, Duration.ZERO, Duration.ZERO, 0.0);
+        }
+    }
+}
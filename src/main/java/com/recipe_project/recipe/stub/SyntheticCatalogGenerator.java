@@ -0,0 +1,209 @@
+package com.recipe_project.recipe.stub;
+
+import com.recipe_project.recipe.dto.RecipeDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic generator of realistic-looking recipes for load tests, benchmarks and the
+ * stub upstream API. Ingredients, tags and cuisines are drawn from Zipfian distributions
+ * so a few values ("Salt and pepper to taste", "Italian") dominate the catalog the way they
+ * do in real data, and instruction counts and lengths vary per recipe.
+ * <p>
+ * Every recipe is derived from {@code (seed, id)} alone, so any page of an arbitrarily large
+ * catalog can be produced without generating the recipes before it.
+ */
+public class SyntheticCatalogGenerator {
+
+    private static final String[] INGREDIENT_BASES = {
+            "Salt and pepper to taste", "Olive oil", "Garlic", "Onion", "Butter", "Sugar", "All-purpose flour",
+            "Eggs", "Milk", "Tomatoes", "Lemon juice", "Soy sauce", "Fresh basil", "Parmesan cheese",
+            "Chicken breast", "Ground beef", "Rice", "Black beans", "Cilantro", "Ginger", "Honey", "Carrots",
+            "Bell pepper", "Mozzarella cheese", "Heavy cream", "Paprika", "Cumin", "Chili flakes", "Spinach",
+            "Mushrooms", "Potatoes", "Coconut milk", "Lime", "Avocado", "Shrimp", "Salmon fillet", "Tofu",
+            "Sesame oil", "Green onions", "Vegetable broth", "Chicken broth", "Brown sugar", "Vanilla extract",
+            "Baking powder", "Cinnamon", "Oregano", "Thyme", "Rosemary", "Feta cheese", "Cucumber",
+            "Red wine vinegar", "Dijon mustard", "Mayonnaise", "Pasta", "Quinoa", "Chickpeas", "Zucchini",
+            "Eggplant", "Celery", "Corn tortillas", "Greek yogurt", "Pine nuts", "Walnuts", "Dark chocolate"
+    };
+
+    private static final String[] PREPARATIONS = {"", ", chopped", ", minced", ", sliced", ", diced", " (optional)"};
+
+    private static final String[] TAGS = {
+            "Dinner", "Quick", "Healthy", "Vegetarian", "Easy", "Italian", "Asian", "Pasta", "Comfort food",
+            "Mexican", "Spicy", "Chicken", "Dessert", "Baking", "Vegan", "Gluten-free", "Soup", "Salad",
+            "Seafood", "Grilling", "Breakfast", "Snack", "Curry", "Stir-fry", "Indian", "Mediterranean",
+            "Low-carb", "High-protein", "Holiday", "Kid-friendly", "One-pot", "Slow cooker", "Sandwich",
+            "Rice", "Noodles", "Beef", "Pork", "Tofu", "Smoothie", "Party"
+    };
+
+    private static final String[] CUISINES = {
+            "Italian", "American", "Asian", "Mexican", "Indian", "Mediterranean", "Thai", "Japanese", "Greek",
+            "French", "Chinese", "Korean", "Middle Eastern", "Spanish", "Moroccan", "Vietnamese", "Brazilian",
+            "Turkish", "Caribbean", "Ethiopian"
+    };
+
+    private static final String[] MEAL_TYPES = {"Dinner", "Lunch", "Snack", "Dessert", "Breakfast", "Side Dish", "Appetizer", "Beverage"};
+
+    private static final String[] DISH_NOUNS = {"Pasta", "Curry", "Salad", "Soup", "Stir-Fry", "Tacos", "Bowl", "Pizza",
+            "Risotto", "Skillet", "Casserole", "Wraps", "Burger", "Noodles", "Pie", "Smoothie", "Cookies", "Stew"};
+
+    private static final String[] DISH_ADJECTIVES = {"Classic", "Spicy", "Creamy", "Quick", "Roasted", "Grilled",
+            "Garlic", "Lemon", "Honey", "Smoky", "Crispy", "Herbed", "Rustic", "Zesty", "Homestyle"};
+
+    private static final String[] VERBS = {"Preheat", "Combine", "Stir", "Whisk", "Chop", "Saute", "Simmer", "Bake",
+            "Season", "Fold", "Drain", "Toss", "Grill", "Roast", "Blend", "Garnish", "Serve"};
+
+    private static final String[] CLAUSES = {"until golden brown", "over medium heat", "for about 5 minutes",
+            "until fragrant", "in a large bowl", "until the sauce thickens", "with a pinch of salt",
+            "stirring occasionally", "until tender", "and set aside", "in a preheated oven",
+            "until well combined", "before serving", "to taste", "until bubbling around the edges"};
+
+    private static final String[] DIFFICULTIES = {"Easy", "Medium", "Hard"};
+
+    private final long seed;
+    private final ZipfSampler ingredientSampler;
+    private final ZipfSampler tagSampler;
+    private final ZipfSampler cuisineSampler;
+    private final String[] ingredients;
+
+    public SyntheticCatalogGenerator(long seed) {
+        this.seed = seed;
+        SplittableRandom vocabularyRandom = new SplittableRandom(seed);
+        this.ingredients = shuffledIngredients(vocabularyRandom);
+        this.ingredientSampler = new ZipfSampler(ingredients.length, 1.1);
+        this.tagSampler = new ZipfSampler(TAGS.length, 1.0);
+        this.cuisineSampler = new ZipfSampler(CUISINES.length, 1.2);
+    }
+
+    /**
+     * Returns {@code count} consecutive recipes starting at zero-based position {@code skip}.
+     * Recipe ids are {@code position + 1}, matching the upstream API.
+     */
+    public List<RecipeDTO> recipes(int skip, int count) {
+        List<RecipeDTO> recipes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            recipes.add(recipe(skip + i + 1L));
+        }
+        return recipes;
+    }
+
+    public RecipeDTO recipe(long id) {
+        SplittableRandom random = new SplittableRandom(mix(seed, id));
+
+        String cuisine = CUISINES[cuisineSampler.sample(random)];
+        String name = DISH_ADJECTIVES[random.nextInt(DISH_ADJECTIVES.length)] + " " + cuisine + " "
+                + DISH_NOUNS[random.nextInt(DISH_NOUNS.length)];
+
+        Set<String> recipeTags = new LinkedHashSet<>();
+        for (int i = 0, n = 1 + random.nextInt(5); i < n; i++) {
+            recipeTags.add(TAGS[tagSampler.sample(random)]);
+        }
+
+        Set<String> recipeIngredients = new LinkedHashSet<>();
+        for (int i = 0, n = 4 + random.nextInt(9); i < n; i++) {
+            recipeIngredients.add(ingredients[ingredientSampler.sample(random)]);
+        }
+
+        // Most recipes have 4-6 steps, a long tail goes up to 15
+        int steps = 2 + (int) Math.min(13, Math.round(-Math.log(1 - random.nextDouble()) * 4));
+        List<String> instructions = new ArrayList<>(steps);
+        for (int i = 0; i < steps; i++) {
+            instructions.add(instruction(random));
+        }
+
+        Set<String> mealTypes = new LinkedHashSet<>();
+        mealTypes.add(MEAL_TYPES[Math.min(MEAL_TYPES.length - 1, (int) (-Math.log(1 - random.nextDouble()) * 1.5))]);
+        if (random.nextInt(4) == 0) {
+            mealTypes.add(MEAL_TYPES[random.nextInt(MEAL_TYPES.length)]);
+        }
+
+        double difficultyRoll = random.nextDouble();
+        int prepTime = 5 + random.nextInt(40);
+        int cookTime = random.nextInt(8) == 0 ? 0 : 5 + random.nextInt(90);
+
+        return RecipeDTO.builder()
+                .id(id)
+                .name(name)
+                .prepTimeMinutes(prepTime)
+                .cookTimeMinutes(cookTime)
+                .servings(1 + random.nextInt(8))
+                .difficulty(DIFFICULTIES[difficultyRoll < 0.55 ? 0 : difficultyRoll < 0.92 ? 1 : 2])
+                .cuisine(cuisine)
+                .tags(new ArrayList<>(recipeTags))
+                .ingredients(new ArrayList<>(recipeIngredients))
+                .instructions(instructions)
+                .caloriesPerServing(80 + random.nextInt(720))
+                .userId(1 + random.nextInt(200))
+                .image("https://cdn.dummyjson.com/recipe-images/" + id + ".webp")
+                .rating(Math.round((5.0 - Math.min(2.0, -Math.log(1 - random.nextDouble()) * 0.5)) * 10) / 10.0)
+                .reviewCount((int) Math.min(5000, Math.round(-Math.log(1 - random.nextDouble()) * 60)))
+                .mealType(new ArrayList<>(mealTypes))
+                .build();
+    }
+
+    private static String instruction(SplittableRandom random) {
+        StringBuilder sentence = new StringBuilder(VERBS[random.nextInt(VERBS.length)])
+                .append(" the ")
+                .append(INGREDIENT_BASES[random.nextInt(INGREDIENT_BASES.length)].toLowerCase());
+        for (int i = 0, clauses = 1 + random.nextInt(3); i < clauses; i++) {
+            sentence.append(i == 0 ? " " : ", ").append(CLAUSES[random.nextInt(CLAUSES.length)]);
+        }
+        return sentence.append('.').toString();
+    }
+
+    private static String[] shuffledIngredients(SplittableRandom random) {
+        String[] vocabulary = new String[INGREDIENT_BASES.length * PREPARATIONS.length];
+        int index = 0;
+        for (String preparation : PREPARATIONS) {
+            for (String base : INGREDIENT_BASES) {
+                vocabulary[index++] = base + preparation;
+            }
+        }
+        // Keep the plain pantry staples at the head of the distribution, shuffle the rest
+        for (int i = vocabulary.length - 1; i > INGREDIENT_BASES.length; i--) {
+            int j = INGREDIENT_BASES.length + random.nextInt(i - INGREDIENT_BASES.length + 1);
+            String swap = vocabulary[i];
+            vocabulary[i] = vocabulary[j];
+            vocabulary[j] = swap;
+        }
+        return vocabulary;
+    }
+
+    private static long mix(long seed, long id) {
+        long z = seed + id * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Samples ranks {@code 0..n-1} with probability proportional to {@code 1 / (rank + 1)^exponent}.
+     */
+    static final class ZipfSampler {
+
+        private final double[] cumulative;
+
+        ZipfSampler(int n, double exponent) {
+            cumulative = new double[n];
+            double total = 0;
+            for (int rank = 0; rank < n; rank++) {
+                total += 1.0 / Math.pow(rank + 1, exponent);
+                cumulative[rank] = total;
+            }
+            for (int rank = 0; rank < n; rank++) {
+                cumulative[rank] /= total;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return Math.min(cumulative.length - 1, index >= 0 ? index : -index - 1);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.recipe_project.recipe.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Reads a string like Jackson's default and, when the reader carries a {@link StringPool}
+ * attribute, returns the pooled instance, so a repeated value decodes to one object and the
+ * parser's copy is garbage straight away. Without the attribute it behaves like the default.
+ */
+public class PooledStringDeserializer extends StdScalarDeserializer<String> {
+
+    public PooledStringDeserializer() {
+        super(String.class);
+    }
+
+    @Override
+    public String deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        String value = StringDeserializer.instance.deserialize(parser, context);
+        StringPool pool = (StringPool) context.getAttribute(StringPool.class);
+        return pool == null ? value : pool.canonical(value);
+    }
+}
@@ -0,0 +1,104 @@
+package com.recipe_project.recipe.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.recipe_project.recipe.dto.RecipeDTO;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes a {@link RecipeDTO} straight to the generator, producing the same JSON as Jackson's
+ * bean serializer: the same field order, with nulls included. Field names are encoded once into
+ * {@link SerializedString}s, and no property introspection or boxing of the values happens per
+ * recipe.
+ */
+public class RecipeDTOSerializer extends StdSerializer<RecipeDTO> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString COOK_TIME_MINUTES = new SerializedString("cookTimeMinutes");
+    private static final SerializedString PREP_TIME_MINUTES = new SerializedString("prepTimeMinutes");
+    private static final SerializedString SERVINGS = new SerializedString("servings");
+    private static final SerializedString DIFFICULTY = new SerializedString("difficulty");
+    private static final SerializedString TAGS = new SerializedString("tags");
+    private static final SerializedString INGREDIENTS = new SerializedString("ingredients");
+    private static final SerializedString INSTRUCTIONS = new SerializedString("instructions");
+    private static final SerializedString CUISINE = new SerializedString("cuisine");
+    private static final SerializedString IMAGE = new SerializedString("image");
+    private static final SerializedString RATING = new SerializedString("rating");
+    private static final SerializedString REVIEW_COUNT = new SerializedString("reviewCount");
+    private static final SerializedString CALORIES_PER_SERVING = new SerializedString("caloriesPerServing");
+    private static final SerializedString USER_ID = new SerializedString("userId");
+    private static final SerializedString MEAL_TYPE = new SerializedString("mealType");
+
+    public RecipeDTOSerializer() {
+        super(RecipeDTO.class);
+    }
+
+    @Override
+    public void serialize(RecipeDTO recipe, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(recipe);
+        writeNumber(generator, ID, recipe.getId());
+        writeString(generator, NAME, recipe.getName());
+        writeNumber(generator, SERVINGS, recipe.getServings());
+        writeString(generator, DIFFICULTY, recipe.getDifficulty());
+        writeStrings(generator, TAGS, recipe.getTags());
+        writeStrings(generator, INGREDIENTS, recipe.getIngredients());
+        writeStrings(generator, INSTRUCTIONS, recipe.getInstructions());
+        writeString(generator, CUISINE, recipe.getCuisine());
+        generator.writeFieldName(RATING);
+        if (recipe.getRating() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(recipe.getRating());
+        }
+        writeNumber(generator, REVIEW_COUNT, recipe.getReviewCount());
+        writeNumber(generator, CALORIES_PER_SERVING, recipe.getCaloriesPerServing());
+        writeNumber(generator, USER_ID, recipe.getUserId());
+        writeStrings(generator, MEAL_TYPE, recipe.getMealType());
+        // The bean serializer orders properties renamed by @JsonProperty after the implicit ones
+        writeNumber(generator, COOK_TIME_MINUTES, recipe.getCookTimeMinutes());
+        writeNumber(generator, PREP_TIME_MINUTES, recipe.getPrepTimeMinutes());
+        writeString(generator, IMAGE, recipe.getImage());
+        generator.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator generator, SerializedString name, String value) throws IOException {
+        generator.writeFieldName(name);
+        generator.writeString(value);
+    }
+
+    private static void writeNumber(JsonGenerator generator, SerializedString name, Integer value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator generator, SerializedString name, Long value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    private static void writeStrings(JsonGenerator generator, SerializedString name, List<String> values) throws IOException {
+        generator.writeFieldName(name);
+        if (values == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray(values, values.size());
+        for (int i = 0, size = values.size(); i < size; i++) {
+            generator.writeString(values.get(i));
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,78 @@
+package com.recipe_project.recipe.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Canonicalizes equal strings to one instance for the lifetime of the pool. A pool is created for
+ * one catalog generation and dropped with it, so unlike {@link String#intern()} nothing outlives
+ * the catalog that needed it. Not thread-safe.
+ */
+public class StringPool {
+
+    private final Map<String, String> strings = new HashMap<>();
+    private long lookups;
+    private long duplicates;
+    private long bytesSaved;
+
+    /**
+     * @return the pooled instance equal to {@code value}, adding {@code value} if there is none
+     */
+    public String canonical(String value) {
+        if (value == null) {
+            return null;
+        }
+        lookups++;
+        String pooled = strings.putIfAbsent(value, value);
+        if (pooled == null) {
+            return value;
+        }
+        if (pooled != value) {
+            duplicates++;
+            bytesSaved += retainedBytes(value);
+        }
+        return pooled;
+    }
+
+    public long getLookups() {
+        return lookups;
+    }
+
+    public int getDistinct() {
+        return strings.size();
+    }
+
+    /**
+     * Strings that were replaced by an earlier equal instance.
+     */
+    public long getDuplicates() {
+        return duplicates;
+    }
+
+    /**
+     * Estimated heap the replaced duplicates would have retained.
+     */
+    public long getBytesSaved() {
+        return bytesSaved;
+    }
+
+    /**
+     * Shallow size of a {@link String} plus its value array, assuming compressed oops and compact
+     * strings: a 24-byte object and a 16-byte array header with one byte per character, or two
+     * when any character is outside Latin-1.
+     */
+    static long retainedBytes(String value) {
+        int bytesPerChar = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        return 24 + align(16L + (long) value.length() * bytesPerChar);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
@@ -1,5 +1,6 @@
 package com.recipe_project.recipe.util;
 
+import com.recipe_project.recipe.exception.InvalidRecipeRequestException;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
@@ -8,10 +9,10 @@ public class ValidationUtil {    public void validateSearchQuery(String query) {
         if(query != null && StringUtils.hasText(query)) {
             String trimmedQuery = query.trim();
             if(trimmedQuery.length() < 2) {
-                throw new IllegalArgumentException("Search query must be at least 2 characters long.");
+                throw new InvalidRecipeRequestException("Search query must be at least 2 characters long.");
             }
             if(trimmedQuery.length() > 100) {
-                throw new IllegalArgumentException("Search query must not exceed 100 characters.");
+                throw new InvalidRecipeRequestException("Search query must not exceed 100 characters.");
             }
         }
         // Allow empty/null queries to return all recipes
@@ -19,7 +20,7 @@ public class ValidationUtil {    public void validateSearchQuery(String query) {
 
     public void validateRecipeId(Long id) {
         if(id == null || id <= 0) {
-            throw new IllegalArgumentException("Recipe ID must be a positive number.");
+            throw new InvalidRecipeRequestException("Recipe ID must be a positive number.");
         }
     }
 }
@@ -0,0 +1,148 @@
+package com.recipe_project.recipe;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.entity.Recipe;
+import com.recipe_project.recipe.repository.CatalogDictionary;
+import com.recipe_project.recipe.repository.RecipeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+        "recipe.catalog.initialize-on-startup=false",
+        "spring.datasource.url=jdbc:h2:mem:reactivedb;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactivedb;DB_CLOSE_DELAY=-1"
+})
+public class ReactiveRecipeApiIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    private Recipe savedRecipe;
+
+    @BeforeEach
+    void setUp() {
+        recipeRepository.deleteAll();
+        CatalogDictionary dictionary = recipeRepository.loadDictionary();
+
+        Recipe pasta = Recipe.builder()
+                .name("Italian Pasta")
+                .cuisine(dictionary.cuisine("Italian"))
+                .cookTimeMinutes(20)
+                .prepTimeMinutes(10)
+                .servings(2)
+                .difficulty("Easy")
+                .tags(dictionary.tags(List.of("pasta", "italian")))
+                .ingredients(List.of("pasta", "tomato sauce", "cheese"))
+                .instructions(List.of("Boil pasta", "Add sauce", "Serve"))
+                .image("pasta.jpg")
+                .rating(4.5)
+                .reviewCount(100)
+                .caloriesPerServing(300)
+                .userId(1)
+                .mealType(dictionary.mealTypes(List.of("Dinner")))
+                .build();
+
+        Recipe tacos = Recipe.builder()
+                .name("Mexican Tacos")
+                .cuisine(dictionary.cuisine("Mexican"))
+                .tags(dictionary.tags(List.of("tacos")))
+                .ingredients(List.of("tortillas"))
+                .instructions(List.of("Assemble"))
+                .mealType(dictionary.mealTypes(List.of("Lunch")))
+                .build();
+
+        recipeRepository.saveDictionary(dictionary);
+        savedRecipe = recipeRepository.saveAll(List.of(pasta, tacos)).get(0);
+    }
+
+    @Test
+    void getAllRecipes_Json() {
+        webTestClient.get().uri("/api/v2/recipes")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].name").isEqualTo("Italian Pasta")
+                .jsonPath("$[0].ingredients.length()").isEqualTo(3)
+                .jsonPath("$[1].tags[0]").isEqualTo("tacos");
+    }
+
+    @Test
+    void getAllRecipes_NdjsonStream() {
+        List<RecipeDTO> recipes = webTestClient.get().uri("/api/v2/recipes")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(RecipeDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertEquals(2, recipes.size());
+        assertEquals(List.of("Boil pasta", "Add sauce", "Serve"), recipes.get(0).getInstructions());
+        assertEquals(List.of("Dinner"), recipes.get(0).getMealType());
+    }
+
+    @Test
+    void getAllRecipes_Cbor() throws Exception {
+        byte[] cbor = webTestClient.get().uri("/api/v2/recipes")
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR)
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        List<RecipeDTO> recipes = new CBORMapper().readValue(cbor, new TypeReference<List<RecipeDTO>>() {});
+        assertEquals(2, recipes.size());
+        assertEquals(List.of("Boil pasta", "Add sauce", "Serve"), recipes.get(0).getInstructions());
+    }
+
+    @Test
+    void getRecipeById_Success() {
+        webTestClient.get().uri("/api/v2/recipes/{id}", savedRecipe.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(savedRecipe.getId().intValue())
+                .jsonPath("$.name").isEqualTo("Italian Pasta")
+                .jsonPath("$.rating").isEqualTo(4.5)
+                .jsonPath("$.tags.length()").isEqualTo(2);
+    }
+
+    @Test
+    void getRecipeById_NotFound() {
+        webTestClient.get().uri("/api/v2/recipes/999999")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Recipe not found");
+    }
+
+    @Test
+    void getRecipeById_InvalidId() {
+        webTestClient.get().uri("/api/v2/recipes/0")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Recipe ID must be a positive number.");
+    }
+}
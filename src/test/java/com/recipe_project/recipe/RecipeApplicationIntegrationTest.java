@@ -1,9 +1,21 @@
 package com.recipe_project.recipe;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.recipe_project.recipe.config.RecipeProtobufHttpMessageConverter;
 import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.dto.RecipeSummaryDTO;
 import com.recipe_project.recipe.entity.Recipe;
+import com.recipe_project.recipe.mapper.RecipeMapper;
+import com.recipe_project.recipe.metrics.RecipeMetrics;
+import com.recipe_project.recipe.metrics.SqlProfile;
+import com.recipe_project.recipe.metrics.SqlProfilingFilter;
+import com.recipe_project.recipe.repository.CatalogDictionary;
 import com.recipe_project.recipe.repository.RecipeRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +28,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.hamcrest.Matchers.*;
@@ -44,23 +57,35 @@ public class RecipeApplicationIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private RecipeMetrics recipeMetrics;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private RecipeMapper recipeMapper;
+
     private MockMvc mockMvc;
 
+    private CatalogDictionary dictionary;
+
     @BeforeEach
     void setUp() {
         mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
         
         // Clear database and add test data
         recipeRepository.deleteAll();
+        dictionary = recipeRepository.loadDictionary();
         
         Recipe testRecipe1 = Recipe.builder()
                 .name("Italian Pasta")
-                .cuisine("Italian")
+                .cuisine(dictionary.cuisine("Italian"))
                 .cookTimeMinutes(20)
                 .prepTimeMinutes(10)
                 .servings(2)
                 .difficulty("Easy")
-                .tags(List.of("pasta", "italian", "dinner"))
+                .tags(dictionary.tags(List.of("pasta", "italian", "dinner")))
                 .ingredients(List.of("pasta", "tomato sauce", "cheese"))
                 .instructions(List.of("Boil pasta", "Add sauce", "Serve"))
                 .image("pasta.jpg")
@@ -68,17 +93,17 @@ public class RecipeApplicationIntegrationTest {
                 .reviewCount(100)
                 .caloriesPerServing(300)
                 .userId(1)
-                .mealType(List.of("Dinner"))
+                .mealType(dictionary.mealTypes(List.of("Dinner")))
                 .build();
 
         Recipe testRecipe2 = Recipe.builder()
                 .name("Mexican Tacos")
-                .cuisine("Mexican")
+                .cuisine(dictionary.cuisine("Mexican"))
                 .cookTimeMinutes(15)
                 .prepTimeMinutes(10)
                 .servings(4)
                 .difficulty("Medium")
-                .tags(List.of("tacos", "mexican", "lunch"))
+                .tags(dictionary.tags(List.of("tacos", "mexican", "lunch")))
                 .ingredients(List.of("tortillas", "meat", "vegetables"))
                 .instructions(List.of("Cook meat", "Warm tortillas", "Assemble"))
                 .image("tacos.jpg")
@@ -86,9 +111,10 @@ public class RecipeApplicationIntegrationTest {
                 .reviewCount(75)
                 .caloriesPerServing(250)
                 .userId(2)
-                .mealType(List.of("Lunch"))
+                .mealType(dictionary.mealTypes(List.of("Lunch")))
                 .build();
 
+        recipeRepository.saveDictionary(dictionary);
         recipeRepository.saveAll(List.of(testRecipe1, testRecipe2));
     }
 
@@ -243,11 +269,201 @@ public class RecipeApplicationIntegrationTest {
                 .orElseThrow();
 
         assertNotNull(italianPasta.getId());
-        assertEquals("Italian", italianPasta.getCuisine());
+        assertEquals("Italian", italianPasta.getCuisine().getName());
         assertEquals(3, italianPasta.getIngredients().size());
         assertEquals(3, italianPasta.getInstructions().size());
         assertEquals(3, italianPasta.getTags().size());
-        assertTrue(italianPasta.getTags().contains("pasta"));
+        assertTrue(italianPasta.getTags().stream().anyMatch(tag -> "pasta".equals(tag.getName())));
         assertTrue(italianPasta.getIngredients().contains("cheese"));
     }
+
+    @Test
+    void getAllRecipes_SummaryFields_IntegrationTest() throws Exception {
+        mockMvc.perform(get("/api/recipes")
+                        .param("fields", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].tags", hasSize(3)))
+                .andExpect(jsonPath("$[0].rating", notNullValue()))
+                .andExpect(jsonPath("$[0].instructions").doesNotExist())
+                .andExpect(jsonPath("$[0].ingredients").doesNotExist());
+    }
+
+    @Test
+    void getAllRecipes_CborAndSmileDecodeToTheJsonPayload_IntegrationTest() throws Exception {
+        List<RecipeDTO> json = objectMapper.readValue(
+                mockMvc.perform(get("/api/recipes")).andReturn().getResponse().getContentAsByteArray(),
+                new TypeReference<List<RecipeDTO>>() {});
+
+        byte[] cbor = mockMvc.perform(get("/api/recipes").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] smile = mockMvc.perform(get("/api/recipes").accept(new MediaType("application", "x-jackson-smile")))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(2, json.size());
+        assertEquals(json, new CBORMapper().readValue(cbor, new TypeReference<List<RecipeDTO>>() {}));
+        assertEquals(json, new SmileMapper().readValue(smile, new TypeReference<List<RecipeDTO>>() {}));
+    }
+
+    @Test
+    void getAllRecipes_ProtobufDecodesToTheJsonPayload_IntegrationTest() throws Exception {
+        List<RecipeDTO> json = objectMapper.readValue(
+                mockMvc.perform(get("/api/recipes")).andReturn().getResponse().getContentAsByteArray(),
+                new TypeReference<List<RecipeDTO>>() {});
+        List<RecipeSummaryDTO> jsonSummaries = objectMapper.readValue(
+                mockMvc.perform(get("/api/recipes").param("fields", "summary")).andReturn().getResponse().getContentAsByteArray(),
+                new TypeReference<List<RecipeSummaryDTO>>() {});
+
+        byte[] protobuf = mockMvc.perform(get("/api/recipes").accept(RecipeProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(RecipeProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] summaries = mockMvc.perform(get("/api/recipes").param("fields", "summary")
+                        .accept(RecipeProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        ProtobufMapper protobufMapper = new ProtobufMapper();
+        RecipeProtobufHttpMessageConverter.RecipeList recipes = protobufMapper
+                .readerFor(RecipeProtobufHttpMessageConverter.RecipeList.class)
+                .with(protobufMapper.generateSchemaFor(RecipeProtobufHttpMessageConverter.RecipeList.class))
+                .readValue(protobuf);
+        RecipeProtobufHttpMessageConverter.RecipeSummaryList summaryList = protobufMapper
+                .readerFor(RecipeProtobufHttpMessageConverter.RecipeSummaryList.class)
+                .with(protobufMapper.generateSchemaFor(RecipeProtobufHttpMessageConverter.RecipeSummaryList.class))
+                .readValue(summaries);
+        assertEquals(json, recipes.recipes());
+        assertEquals(jsonSummaries, summaryList.recipes());
+        assertTrue(protobuf.length < objectMapper.writeValueAsBytes(json).length);
+    }
+
+    @Test
+    void searchRecipes_SummaryFields_ByIngredient_IntegrationTest() throws Exception {
+        mockMvc.perform(get("/api/recipes/search")
+                        .param("q", "cheese")
+                        .param("fields", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name", is("Italian Pasta")))
+                .andExpect(jsonPath("$[0].tags", containsInAnyOrder("pasta", "italian", "dinner")));
+    }
+
+
+    @Test
+    void serviceMetrics_TaggedByOperationAndOutcome_IntegrationTest() throws Exception {
+        mockMvc.perform(get("/api/recipes/999999"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/actuator/metrics/recipe.service.operations")
+                        .param("tag", "operation:get_by_id")
+                        .param("tag", "outcome:not_found"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[?(@.statistic == 'COUNT')].value", hasItem(greaterThanOrEqualTo(1.0))));
+    }
+
+
+    @Test
+    void healthProbes_LivenessIgnoresCatalogAndReadinessReportsIt_IntegrationTest() throws Exception {
+        mockMvc.perform(get("/actuator/health/liveness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(jsonPath("$.components.catalog.details.phase").exists())
+                .andExpect(jsonPath("$.components.readinessState").exists());
+    }
+
+    @Test
+    void sqlProfiling_DebugHeadersExposeLazyCollectionLoads_IntegrationTest() throws Exception {
+        SqlProfilingFilter filter = new SqlProfilingFilter(recipeMetrics, 25, true);
+        MockMvc profiledMockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .addFilter(filter, "/api/recipes/*")
+                .build();
+        Long id = recipeRepository.findAll().get(0).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        // The recipe, its cuisine (joined), and 3 tag plus 1 meal type dictionary rows loaded with their join tables
+        profiledMockMvc.perform(get("/api/recipes/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlProfilingFilter.ENTITIES_HEADER, "6"))
+                .andExpect(header().string(SqlProfilingFilter.COLLECTIONS_HEADER, "4"))
+                .andExpect(header().string(SqlProfilingFilter.STATEMENTS_HEADER, "5"));
+    }
+
+
+    @Test
+    void saveAll_BatchesRecipeAndCollectionInserts_IntegrationTest() {
+        List<Recipe> recipes = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            recipes.add(Recipe.builder()
+                    .name("Batch Recipe " + i)
+                    .cuisine(dictionary.cuisine("Test"))
+                    .tags(dictionary.tags(List.of("a", "b")))
+                    .ingredients(List.of("x", "y", "z"))
+                    .instructions(List.of("Cook"))
+                    .mealType(dictionary.mealTypes(List.of("Dinner")))
+                    .build());
+        }
+
+        SqlProfile profile = SqlProfile.begin();
+        try {
+            recipeRepository.saveDictionary(dictionary);
+            recipeRepository.saveAll(recipes);
+            entityManager.flush();
+        } finally {
+            SqlProfile.end();
+        }
+
+        // 250 recipes and 1,750 collection rows: a few sequence calls plus ceil(rows / 100) batches
+        // per table, against 2,000+ single-row statements with IDENTITY ids
+        assertTrue(profile.getStatements() <= 40, "statements executed: " + profile.getStatements());
+    }
+
+
+    @Test
+    void dictionary_RecipesShareOneRowPerTagAndCuisine_IntegrationTest() throws Exception {
+        RecipeDTO dto = RecipeDTO.builder()
+                .name("Pasta Bake")
+                .cuisine("Italian")
+                .tags(List.of("pasta", "bake"))
+                .mealType(List.of("Dinner"))
+                .build();
+        CatalogDictionary reloaded = recipeRepository.loadDictionary();
+        Recipe recipe = recipeMapper.toEntity(dto, reloaded);
+        recipeRepository.saveDictionary(reloaded);
+        recipeRepository.save(recipe);
+        entityManager.flush();
+
+        // Only "bake" is new; Italian, pasta and Dinner reuse the rows saved in setUp
+        assertEquals(1, ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM cuisines WHERE name = 'Italian'")
+                .getSingleResult()).intValue());
+        assertEquals(1, ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM tags WHERE name = 'pasta'")
+                .getSingleResult()).intValue());
+        assertEquals(7, ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM tags")
+                .getSingleResult()).intValue());
+
+        mockMvc.perform(get("/api/recipes/search").param("q", "bake"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].cuisine").value("Italian"))
+                .andExpect(jsonPath("$[0].tags", hasItem("pasta")));
+    }
+
+    @Test
+    void deleteAllInBulk_RemovesRecipesAndCollectionRows_IntegrationTest() {
+        int deleted = recipeRepository.deleteAllInBulk();
+
+        assertEquals(2, deleted);
+        assertEquals(0, recipeRepository.count());
+        for (String table : List.of("recipe_tags", "recipe_ingredients", "recipe_instructions", "recipe_meal_types")) {
+            Number rows = (Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM " + table).getSingleResult();
+            assertEquals(0, rows.intValue(), table);
+        }
+    }
 }
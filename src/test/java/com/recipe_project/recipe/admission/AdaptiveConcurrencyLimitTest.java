@@ -0,0 +1,99 @@
+package com.recipe_project.recipe.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long TEN_MILLIS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    void tryAcquire_RejectsOnceLimitIsInFlight() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10);
+
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+        assertEquals(2, limit.getInFlight());
+
+        limit.onIgnore();
+        assertTrue(limit.tryAcquire());
+    }
+
+    @Test
+    void onSuccess_GrowsLimitWhileLatencyIsSteady() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 50);
+
+        runSaturated(limit, 200, TEN_MILLIS);
+
+        assertEquals(50, limit.getLimit());
+    }
+
+    @Test
+    void onSuccess_ShrinksLimitWhenLatencyRises() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(40, 1, 50);
+        runSaturated(limit, 100, TEN_MILLIS);
+        int steady = limit.getLimit();
+
+        runSaturated(limit, 20, 10 * TEN_MILLIS);
+
+        assertTrue(limit.getLimit() < steady / 2, () -> "limit " + limit.getLimit() + " from " + steady);
+        assertTrue(limit.getLimit() >= 1);
+    }
+
+    @Test
+    void onSuccess_IgnoresSamplesFarBelowLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 1, 50);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limit.tryAcquire());
+            limit.onSuccess(TEN_MILLIS);
+        }
+
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    void fixedLimit_StaysPut() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 1);
+
+        runSaturated(limit, 10, TEN_MILLIS);
+        runSaturated(limit, 10, 100 * TEN_MILLIS);
+
+        assertEquals(1, limit.getLimit());
+    }
+
+    @Test
+    void retryAfterSeconds_FollowsLongTermLatency() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 1);
+        assertEquals(1, limit.retryAfterSeconds());
+
+        runSaturated(limit, 1, TimeUnit.MILLISECONDS.toNanos(2500));
+
+        assertEquals(3, limit.retryAfterSeconds());
+    }
+
+    @Test
+    void constructor_RejectsInconsistentBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(5, 1, 4));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(1, 0, 4));
+    }
+
+    /**
+     * Fills every slot, then completes them all with the given latency, {@code rounds} times.
+     */
+    private static void runSaturated(AdaptiveConcurrencyLimit limit, int rounds, long rttNanos) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limit.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limit.onSuccess(rttNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.recipe_project.recipe.admission;
+
+import com.recipe_project.recipe.metrics.RecipeMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControlFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private Map<EndpointClass, AdaptiveConcurrencyLimit> limits;
+    private AdmissionControlFilter filter;
+    private AtomicInteger chainCalls;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        limits = new EnumMap<>(EndpointClass.class);
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            limits.put(endpointClass, new AdaptiveConcurrencyLimit(1, 1, 1));
+        }
+        filter = new AdmissionControlFilter(limits, new RecipeMetrics(registry));
+        chainCalls = new AtomicInteger();
+    }
+
+    @Test
+    void doFilter_AdmitsAndReleasesSlot() throws Exception {
+        MockHttpServletResponse response = perform("GET", "/api/recipes/1", succeeding());
+
+        assertEquals(200, response.getStatus());
+        assertEquals(1, chainCalls.get());
+        assertEquals(0, limits.get(EndpointClass.DETAIL).getInFlight());
+    }
+
+    @Test
+    void doFilter_ShedsWith503AndRetryAfterWhenSaturated() throws Exception {
+        assertTrue(limits.get(EndpointClass.SEARCH).tryAcquire());
+
+        MockHttpServletResponse response = perform("GET", "/api/recipes/search", succeeding());
+
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertEquals("application/json", response.getContentType());
+        assertTrue(response.getContentAsString().contains("\"error\":\"Service overloaded\""));
+        assertTrue(response.getContentAsString().contains("search"));
+        assertEquals(0, chainCalls.get());
+        assertEquals(1.0, registry.get("recipe.admission.rejected").tag("class", "search").counter().count());
+    }
+
+    @Test
+    void doFilter_KeepsDetailReadsFlowingWhileSearchesAreShed() throws Exception {
+        assertTrue(limits.get(EndpointClass.SEARCH).tryAcquire());
+        assertTrue(limits.get(EndpointClass.LIST).tryAcquire());
+
+        assertEquals(503, perform("GET", "/api/recipes/search", succeeding()).getStatus());
+        assertEquals(503, perform("GET", "/api/recipes", succeeding()).getStatus());
+        assertEquals(200, perform("GET", "/api/recipes/7", succeeding()).getStatus());
+    }
+
+    @Test
+    void doFilter_AllowsOneReloadAtATime() throws Exception {
+        FilterChain reloadingAgain = (req, res) -> {
+            chainCalls.incrementAndGet();
+            assertEquals(503, perform("POST", "/api/recipes/load", succeeding()).getStatus());
+        };
+
+        assertEquals(200, perform("POST", "/api/recipes/load", reloadingAgain).getStatus());
+        assertEquals(1, chainCalls.get());
+        assertEquals(200, perform("POST", "/api/recipes/load", succeeding()).getStatus());
+    }
+
+    @Test
+    void doFilter_ReleasesSlotWhenChainFails() throws Exception {
+        FilterChain failing = (req, res) -> {
+            throw new ServletException("boom");
+        };
+
+        assertThrows(ServletException.class, () -> perform("GET", "/api/recipes/1", failing));
+        FilterChain serverError = (req, res) -> ((HttpServletResponse) res).setStatus(500);
+        assertEquals(500, perform("GET", "/api/recipes/1", serverError).getStatus());
+
+        assertEquals(0, limits.get(EndpointClass.DETAIL).getInFlight());
+    }
+
+    @Test
+    void endpointClass_ClassifiesRecipeRoutes() {
+        assertEquals(EndpointClass.LIST, EndpointClass.of("GET", "/api/recipes"));
+        assertEquals(EndpointClass.SEARCH, EndpointClass.of("GET", "/api/recipes/search"));
+        assertEquals(EndpointClass.RELOAD, EndpointClass.of("POST", "/api/recipes/load"));
+        assertEquals(EndpointClass.DETAIL, EndpointClass.of("GET", "/api/recipes/42"));
+        assertEquals(EndpointClass.DETAIL, EndpointClass.of("GET", "/api/recipes/load"));
+    }
+
+    private MockHttpServletResponse perform(String method, String uri, FilterChain chain)
+            throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private FilterChain succeeding() {
+        return (req, res) -> {
+            chainCalls.incrementAndGet();
+            ((HttpServletResponse) res).setStatus(200);
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package com.recipe_project.recipe.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeapRecipeCatalogTest extends RecipeCatalogContractTest {
+
+    @Override
+    HeapRecipeCatalog.Builder builder(int expectedSize) {
+        return HeapRecipeCatalog.builder(expectedSize);
+    }
+
+    @Test
+    void build_StoresEachTermOnce() {
+        HeapRecipeCatalog catalog = builder(2)
+                .add(40L, recipe(1L, "Carbonara", "Italian", List.of("pasta"), List.of("Egg")))
+                .add(41L, recipe(1L, "Lasagna", "Italian", List.of("pasta"), List.of("Egg", "Pasta")))
+                .build();
+
+        // Italian, pasta, Egg, Pasta, Dinner and Medium
+        assertEquals(6, catalog.termCount());
+    }
+
+    @Test
+    void toDTO_BuildsEachDTOOncePerCatalog() {
+        HeapRecipeCatalog catalog = builder(1).add(1L, recipe(1L, "Soup", "French", List.of("soup"), null)).build();
+
+        assertSame(catalog.toDTO(0), catalog.toDTO(0));
+        assertSame(catalog.toSummaryDTO(0), catalog.toSummaryDTO(0));
+        assertSame(catalog.all(), catalog.all());
+        assertSame(catalog.toDTO(0), catalog.all().get(0));
+        assertSame(catalog.allSummaries(), catalog.allSummaries());
+    }
+}
@@ -0,0 +1,54 @@
+package com.recipe_project.recipe.catalog;
+
+import com.recipe_project.recipe.dto.RecipeDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapRecipeCatalogTest extends RecipeCatalogContractTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Override
+    OffHeapRecipeCatalog.Builder builder(int expectedSize) {
+        return OffHeapRecipeCatalog.builder(expectedSize, null, 4096);
+    }
+
+    @Test
+    void build_SpreadsRecordsOverChunksAndGrowsTheIndex() {
+        OffHeapRecipeCatalog.Builder builder = OffHeapRecipeCatalog.builder(1, null, 512);
+        for (long id = 1; id <= 200; id++) {
+            builder.add(id * 3, recipe(id * 3, "Recipe " + id, "Italian", List.of("pasta"), List.of("Egg")));
+        }
+        OffHeapRecipeCatalog catalog = builder.build();
+
+        assertEquals(200, catalog.size());
+        assertEquals("Recipe 137", catalog.toDTO(catalog.indexOf(411L)).getName());
+        assertEquals(-1, catalog.indexOf(412L));
+        // Recipe 1, 10-19 and 100-199
+        assertEquals(111, catalog.search("recipe 1").length);
+    }
+
+    @Test
+    void build_MapsChunksFromTheDirectoryWithoutLeavingFilesBehind() {
+        RecipeDTO recipe = recipe(1L, "Pad Thai", "Thai", List.of("noodles"), List.of("Rice noodles"));
+        OffHeapRecipeCatalog catalog = OffHeapRecipeCatalog.builder(1, tempDir, 4096).add(1L, recipe).build();
+
+        assertEquals(recipe, catalog.toDTO(0));
+        assertTrue(catalog.offHeapBytes() >= 4096);
+        assertEquals(0, tempDir.toFile().list().length);
+    }
+
+    @Test
+    void add_RejectsRecordsLargerThanAChunk() {
+        OffHeapRecipeCatalog.Builder builder = OffHeapRecipeCatalog.builder(1, null, 64);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.add(1L, recipe(1L, "Pad Thai", "Thai", List.of("noodles"), List.of("Rice noodles"))));
+    }
+}
@@ -0,0 +1,182 @@
+package com.recipe_project.recipe.catalog;
+
+import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.dto.RecipeSummaryDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Behaviour every {@link RecipeCatalog} implementation shares; subclasses supply the builder.
+ */
+abstract class RecipeCatalogContractTest {
+
+    abstract RecipeCatalog.Builder builder(int expectedSize);
+
+    @Test
+    void toDTO_RoundTripsEveryFieldIncludingNulls() {
+        RecipeDTO full = recipe(3L, "Margherita Pizza", "Italian", List.of("pizza", "vegetarian"), List.of("Flour", "Tomato"));
+        RecipeDTO sparse = RecipeDTO.builder()
+                .id(8L)
+                .name(null)
+                .tags(null)
+                .ingredients(List.of())
+                .instructions(Arrays.asList("Stir", null, "", "Serve  hot ☕ "))
+                .mealType(Arrays.asList("Lunch", null))
+                .build();
+
+        RecipeCatalog catalog = builder(1).add(3L, full).add(8L, sparse).build();
+
+        assertEquals(2, catalog.size());
+        assertEquals(full, catalog.toDTO(0));
+        assertEquals(sparse, catalog.toDTO(1));
+    }
+
+    @Test
+    void add_UsesTheGivenId() {
+        RecipeDTO upstream = recipe(1L, "Carbonara", "Italian", List.of("pasta"), List.of("Egg"));
+        RecipeCatalog catalog = builder(1).add(40L, upstream).build();
+
+        assertEquals(40L, catalog.toDTO(0).getId());
+        assertEquals(1L, upstream.getId());
+    }
+
+    @Test
+    void indexOf_FindsPositionsByIdAndMissesAbsentIds() {
+        RecipeCatalog catalog = builder(3)
+                .add(2L, recipe(2L, "A", null, null, null))
+                .add(5L, recipe(5L, "B", null, null, null))
+                .add(9L, recipe(9L, "C", null, null, null))
+                .build();
+
+        assertEquals(1, catalog.indexOf(5L));
+        assertEquals(-1, catalog.indexOf(4L));
+        assertEquals(-1, catalog.indexOf(10L));
+    }
+
+    @Test
+    void search_MatchesNameCuisineTagsAndIngredientsIgnoringCase() {
+        RecipeCatalog catalog = builder(3)
+                .add(1L, recipe(1L, "Margherita Pizza", "Italian", List.of("pizza"), List.of("Basil")))
+                .add(2L, recipe(2L, "Pad Thai", "Thai", List.of("noodles"), List.of("Rice Noodles")))
+                .add(3L, recipe(3L, "Chicken Curry", "Indian", List.of("spicy"), List.of("Chicken")))
+                .build();
+
+        assertArrayEquals(new int[] {0}, catalog.search("PIZZA"));
+        assertArrayEquals(new int[] {0, 2}, catalog.search("ian"));
+        assertArrayEquals(new int[] {1}, catalog.search("noodle"));
+        assertArrayEquals(new int[] {2}, catalog.search("chick"));
+        assertArrayEquals(new int[] {}, catalog.search("sushi"));
+        // Difficulty and meal types are not searched, matching the database query
+        assertArrayEquals(new int[] {}, catalog.search("dinner"));
+    }
+
+    @Test
+    void search_FoldsCaseOutsideAscii() {
+        RecipeCatalog catalog = builder(2)
+                .add(1L, recipe(1L, "Crème Brûlée", "French", null, List.of("Crème fraîche")))
+                .add(2L, recipe(2L, "Lemon Tart", "French", null, List.of("Lemon")))
+                .build();
+
+        assertArrayEquals(new int[] {0}, catalog.search("BRÛ"));
+        assertArrayEquals(new int[] {0}, catalog.search("FRAÎCHE"));
+        assertArrayEquals(new int[] {0}, catalog.search("crè"));
+        assertArrayEquals(new int[] {1}, catalog.search("TART"));
+    }
+
+    @Test
+    void toSummaryDTO_UsesEmptyTagsForNullTags() {
+        RecipeCatalog catalog = builder(1).add(1L, recipe(1L, "Soup", "French", null, null)).build();
+
+        RecipeSummaryDTO summary = catalog.toSummaryDTO(0);
+
+        assertEquals("Soup", summary.getName());
+        assertEquals("French", summary.getCuisine());
+        assertEquals(List.of(), summary.getTags());
+        assertEquals(25, summary.getCookTimeMinutes());
+    }
+
+    @Test
+    void toSummaryDTO_AgreesWithFullRecordIncludingNulls() {
+        RecipeDTO full = recipe(3L, "Margherita Pizza", "Italian", List.of("pizza", "vegetarian"), List.of("Flour", "Tomato"));
+        RecipeDTO sparse = RecipeDTO.builder()
+                .id(8L)
+                .ingredients(List.of())
+                .instructions(Arrays.asList("Stir", null, ""))
+                .mealType(Arrays.asList("Lunch", null))
+                .image("soup.png")
+                .caloriesPerServing(-40)
+                .build();
+
+        RecipeCatalog catalog = builder(2).add(3L, full).add(8L, sparse).build();
+
+        for (int position = 0; position < catalog.size(); position++) {
+            RecipeDTO recipe = catalog.toDTO(position);
+            assertEquals(RecipeSummaryDTO.builder()
+                    .id(recipe.getId())
+                    .name(recipe.getName())
+                    .cuisine(recipe.getCuisine())
+                    .tags(recipe.getTags() == null ? List.of() : recipe.getTags())
+                    .cookTimeMinutes(recipe.getCookTimeMinutes())
+                    .image(recipe.getImage())
+                    .rating(recipe.getRating())
+                    .build(), catalog.toSummaryDTO(position));
+        }
+    }
+
+    @Test
+    void toDTO_ReturnsUnmodifiableLists() {
+        RecipeCatalog catalog = builder(1).add(1L, recipe(1L, "Soup", "French", List.of("soup"), List.of("Leek"))).build();
+
+        RecipeDTO dto = catalog.toDTO(0);
+
+        assertThrows(UnsupportedOperationException.class, () -> dto.getTags().add("quick"));
+        assertThrows(UnsupportedOperationException.class, () -> dto.getIngredients().set(0, "Onion"));
+        assertThrows(UnsupportedOperationException.class, () -> dto.getInstructions().clear());
+        assertThrows(UnsupportedOperationException.class, () -> catalog.toSummaryDTO(0).getTags().add("quick"));
+    }
+
+    @Test
+    void all_ListsEveryRecipeInPositionOrder() {
+        RecipeCatalog catalog = builder(2)
+                .add(1L, recipe(1L, "Soup", "French", null, null))
+                .add(2L, recipe(2L, "Stew", "Irish", null, null))
+                .build();
+
+        assertEquals(List.of(catalog.toDTO(0), catalog.toDTO(1)), catalog.all());
+        assertEquals(List.of(catalog.toSummaryDTO(0), catalog.toSummaryDTO(1)), catalog.allSummaries());
+        assertThrows(UnsupportedOperationException.class, () -> catalog.all().remove(0));
+    }
+
+    @Test
+    void add_RejectsIdsOutOfOrder() {
+        RecipeCatalog.Builder builder = builder(2).add(5L, recipe(5L, "A", null, null, null));
+
+        assertThrows(IllegalArgumentException.class, () -> builder.add(5L, recipe(5L, "B", null, null, null)));
+        assertThrows(IllegalArgumentException.class, () -> builder.add(4L, recipe(4L, "C", null, null, null)));
+    }
+
+    static RecipeDTO recipe(Long id, String name, String cuisine, List<String> tags, List<String> ingredients) {
+        return RecipeDTO.builder()
+                .id(id)
+                .name(name)
+                .cuisine(cuisine)
+                .tags(tags)
+                .ingredients(ingredients)
+                .instructions(List.of("Cook it", "Serve it"))
+                .cookTimeMinutes(25)
+                .prepTimeMinutes(10)
+                .servings(2)
+                .difficulty("Medium")
+                .rating(4.6)
+                .reviewCount(12)
+                .caloriesPerServing(420)
+                .userId(7)
+                .mealType(List.of("Dinner"))
+                .image("https://cdn.dummyjson.com/recipe-images/" + id + ".webp")
+                .build();
+    }
+}
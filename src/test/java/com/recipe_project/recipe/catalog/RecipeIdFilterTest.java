@@ -0,0 +1,69 @@
+package com.recipe_project.recipe.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecipeIdFilterTest {
+
+    @Test
+    void of_DenseIdsAreKeptExactly() {
+        RecipeIdFilter filter = RecipeIdFilter.of(new long[]{101L, 103L, 102L, 150L});
+
+        assertTrue(filter.isExact());
+        assertTrue(filter.mightContain(101L));
+        assertTrue(filter.mightContain(150L));
+        assertFalse(filter.mightContain(104L));
+        assertFalse(filter.mightContain(100L));
+        assertFalse(filter.mightContain(151L));
+        assertFalse(filter.mightContain(-1L));
+        assertFalse(filter.mightContain(Long.MAX_VALUE));
+        assertEquals(4, filter.size());
+    }
+
+    @Test
+    void of_SparseIdsFallBackToBloomWithoutFalseNegatives() {
+        long[] ids = LongStream.range(0, 10_000).map(i -> i * 1_000_003L + 7).toArray();
+        RecipeIdFilter filter = RecipeIdFilter.of(ids);
+
+        assertFalse(filter.isExact());
+        for (long id : ids) {
+            assertTrue(filter.mightContain(id));
+        }
+        long falsePositives = LongStream.range(0, 100_000)
+                .map(i -> i * 1_000_003L + 500_000L)
+                .filter(filter::mightContain)
+                .count();
+        assertTrue(falsePositives < 2_000, () -> falsePositives + " false positives in 100000");
+    }
+
+    @Test
+    void of_EmptyCatalogContainsNothing() {
+        RecipeIdFilter filter = RecipeIdFilter.of(new long[0]);
+
+        assertFalse(filter.mightContain(1L));
+        assertEquals(0, filter.size());
+    }
+
+    @Test
+    void holder_AdmitsEverythingUntilFirstPublish() {
+        RecipeIdFilterHolder holder = new RecipeIdFilterHolder(true);
+        assertTrue(holder.mightContain(42L));
+
+        holder.publish(RecipeIdFilter.of(new long[]{1L, 2L}));
+
+        assertTrue(holder.mightContain(2L));
+        assertFalse(holder.mightContain(42L));
+    }
+
+    @Test
+    void holder_IgnoresPublishWhenDisabled() {
+        RecipeIdFilterHolder holder = new RecipeIdFilterHolder(false);
+
+        holder.publish(RecipeIdFilter.of(new long[]{1L}));
+
+        assertTrue(holder.mightContain(42L));
+    }
+}
@@ -0,0 +1,255 @@
+package com.recipe_project.recipe.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.recipe_project.recipe.catalog.RecipeCatalog;
+import com.recipe_project.recipe.catalog.RecipeCatalogHolder;
+import com.recipe_project.recipe.metrics.RecipeMetrics;
+import com.recipe_project.recipe.metrics.SqlProfilingFilter;
+import com.recipe_project.recipe.ratelimit.RateLimitFilter;
+import com.recipe_project.recipe.ratelimit.TokenBucketStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CompressionFilterTest {
+
+    private static final String BODY = "[" + "{\"name\":\"Classic Margherita Pizza\"},".repeat(200) + "{}]";
+
+    private SimpleMeterRegistry registry;
+    private RecipeCatalogHolder catalogHolder;
+    private CompressedResponseCache cache;
+    private CompressionFilter filter;
+    private AtomicInteger chainCalls;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        catalogHolder = mock(RecipeCatalogHolder.class);
+        when(catalogHolder.current()).thenReturn(Optional.of(mock(RecipeCatalog.class)));
+        cache = new CompressedResponseCache(catalogHolder, 2, 16, 1 << 20);
+        filter = new CompressionFilter(cache, new RecipeMetrics(registry), EnumSet.allOf(ContentEncoding.class), 2048);
+        chainCalls = new AtomicInteger();
+    }
+
+    @Test
+    void doFilter_CompressesLargeResponseWithGzip() throws Exception {
+        MockHttpServletResponse response = get("/api/recipes/1", "gzip, deflate", writing(200, BODY));
+
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertEquals("Accept-Encoding", response.getHeader("Vary"));
+        assertEquals("application/json", response.getContentType());
+        assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+        assertEquals(BODY, gunzip(response.getContentAsByteArray()));
+    }
+
+    @Test
+    void doFilter_PrefersZstdWhenAccepted() throws Exception {
+        MockHttpServletResponse response = get("/api/recipes/1", "gzip, zstd", writing(200, BODY));
+
+        assertEquals("zstd", response.getHeader("Content-Encoding"));
+        byte[] compressed = response.getContentAsByteArray();
+        byte[] decompressed = Zstd.decompress(compressed, (int) Zstd.getFrameContentSize(compressed));
+        assertEquals(BODY, new String(decompressed, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void doFilter_LeavesSmallResponseUncompressed() throws Exception {
+        MockHttpServletResponse response = get("/api/recipes/1", "gzip", writing(200, "{\"id\":1}"));
+
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals("{\"id\":1}", response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_WithoutAcceptEncoding_PassesThrough() throws Exception {
+        MockHttpServletResponse response = get("/api/recipes", null, writing(200, BODY));
+
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals(BODY, response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_LeavesErrorResponseUncompressedAndUncached() throws Exception {
+        MockHttpServletResponse response = get("/api/recipes", "gzip", writing(500, BODY));
+
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals(500, response.getStatus());
+        assertEquals(BODY, response.getContentAsString());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void doFilter_ReplaysCachedFullCatalogWithoutRunningChain() throws Exception {
+        FilterChain chain = writing(200, BODY);
+        MockHttpServletResponse first = get("/api/recipes", "gzip", chain);
+        MockHttpServletResponse second = get("/api/recipes", "gzip", chain);
+
+        assertEquals(1, chainCalls.get());
+        assertArrayEquals(first.getContentAsByteArray(), second.getContentAsByteArray());
+        assertEquals("gzip", second.getHeader("Content-Encoding"));
+        assertEquals("application/json", second.getContentType());
+        assertEquals("max-age=60", second.getHeader("Cache-Control"));
+        assertEquals(BODY, gunzip(second.getContentAsByteArray()));
+        assertEquals(1.0, registry.get("recipe.cache.gets")
+                .tags("cache", CompressionFilter.CACHE_NAME, "result", "hit").counter().count());
+    }
+
+    @Test
+    void doFilter_ReplaysOnlyCurrentRateLimitHeadersBehindRateLimiting() throws Exception {
+        TokenBucketStore buckets = new TokenBucketStore(10, 1.0, 16, () -> 0L);
+        RateLimitFilter rateLimitFilter = new RateLimitFilter(buckets, new RecipeMetrics(registry), "X-API-Key", Set.of());
+        FilterChain compressing = (req, res) -> filter.doFilter(req, res, writing(200, BODY));
+
+        MockHttpServletResponse first = get(rateLimitFilter, "/api/recipes", "gzip", compressing);
+        MockHttpServletResponse second = get(rateLimitFilter, "/api/recipes", "gzip", compressing);
+
+        assertEquals(1, chainCalls.get());
+        assertEquals(List.of("9"), first.getHeaders(RateLimitFilter.REMAINING_HEADER));
+        assertEquals(List.of("8"), second.getHeaders(RateLimitFilter.REMAINING_HEADER));
+        assertEquals(1, second.getHeaders(RateLimitFilter.LIMIT_HEADER).size());
+        assertEquals(1, second.getHeaders(RateLimitFilter.RESET_HEADER).size());
+        assertEquals(List.of("max-age=60"), second.getHeaders("Cache-Control"));
+    }
+
+    @Test
+    void doFilter_DoesNotReplaySqlProfileHeaders() throws Exception {
+        FilterChain chain = (req, res) -> {
+            writing(200, BODY).doFilter(req, res);
+            ((HttpServletResponse) res).setHeader(SqlProfilingFilter.STATEMENTS_HEADER, "3");
+        };
+        get("/api/recipes", "gzip", chain);
+        MockHttpServletResponse second = get("/api/recipes", "gzip", chain);
+
+        assertEquals(1, chainCalls.get());
+        assertNull(second.getHeader(SqlProfilingFilter.STATEMENTS_HEADER));
+        assertEquals("max-age=60", second.getHeader("Cache-Control"));
+    }
+
+    @Test
+    void doFilter_CachesDetailOnlyOncePopular() throws Exception {
+        FilterChain chain = writing(200, BODY);
+        get("/api/recipes/7", "gzip", chain);
+        assertEquals(0, cache.size());
+
+        get("/api/recipes/7", "gzip", chain);
+        get("/api/recipes/7", "gzip", chain);
+
+        assertEquals(2, chainCalls.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void doFilter_CachesUnknownFullCatalogQueriesOnlyOncePopular() throws Exception {
+        FilterChain chain = writing(200, BODY);
+        get("/api/recipes?x=1", "gzip", chain);
+        get("/api/recipes?x=2", "gzip", chain);
+        assertEquals(0, cache.size());
+
+        get("/api/recipes?fields=summary", "gzip", chain);
+
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void doFilter_StopsCachingOnceByteBudgetIsSpent() throws Exception {
+        int length = get("/api/recipes", "gzip", writing(200, BODY)).getContentAsByteArray().length;
+        cache = new CompressedResponseCache(catalogHolder, 2, 16, length + length / 2);
+        filter = new CompressionFilter(cache, new RecipeMetrics(registry), EnumSet.allOf(ContentEncoding.class), 2048);
+
+        FilterChain chain = writing(200, BODY);
+        get("/api/recipes", "gzip", chain);
+        get("/api/recipes?fields=full", "gzip", chain);
+        get("/api/recipes?fields=full", "gzip", chain);
+
+        assertEquals(1, cache.size());
+        assertEquals(length, cache.bytes());
+        assertEquals(4, chainCalls.get());
+    }
+
+    @Test
+    void doFilter_KeepsEncodingsAndMediaTypesApart() throws Exception {
+        FilterChain chain = writing(200, BODY);
+        get("/api/recipes", "gzip", chain);
+        MockHttpServletResponse zstd = get("/api/recipes", "zstd", chain);
+
+        assertEquals(2, chainCalls.get());
+        assertEquals("zstd", zstd.getHeader("Content-Encoding"));
+    }
+
+    @Test
+    void doFilter_DropsCacheWhenCatalogChanges() throws Exception {
+        FilterChain chain = writing(200, BODY);
+        get("/api/recipes", "gzip", chain);
+
+        when(catalogHolder.current()).thenReturn(Optional.of(mock(RecipeCatalog.class)));
+        get("/api/recipes", "gzip", chain);
+
+        assertEquals(2, chainCalls.get());
+    }
+
+    @Test
+    void doFilter_WithoutCatalog_CompressesButDoesNotCache() throws Exception {
+        when(catalogHolder.current()).thenReturn(Optional.empty());
+        FilterChain chain = writing(200, BODY);
+        get("/api/recipes", "gzip", chain);
+        MockHttpServletResponse response = get("/api/recipes", "gzip", chain);
+
+        assertEquals(2, chainCalls.get());
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+    }
+
+    private MockHttpServletResponse get(String uri, String acceptEncoding, FilterChain chain) throws Exception {
+        return get(filter, uri, acceptEncoding, chain);
+    }
+
+    private static MockHttpServletResponse get(Filter outermost, String uri, String acceptEncoding, FilterChain chain)
+            throws Exception {
+        int query = uri.indexOf('?');
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", query < 0 ? uri : uri.substring(0, query));
+        if (query >= 0) {
+            request.setQueryString(uri.substring(query + 1));
+        }
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        outermost.doFilter(request, response, chain);
+        return response;
+    }
+
+    private FilterChain writing(int status, String body) {
+        return (req, res) -> {
+            chainCalls.incrementAndGet();
+            HttpServletResponse response = (HttpServletResponse) res;
+            response.setStatus(status);
+            response.setContentType("application/json");
+            response.setHeader("Cache-Control", "max-age=60");
+            response.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
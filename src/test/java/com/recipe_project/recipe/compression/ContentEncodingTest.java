@@ -0,0 +1,38 @@
+package com.recipe_project.recipe.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentEncodingTest {
+
+    private static final Set<ContentEncoding> ALL = EnumSet.allOf(ContentEncoding.class);
+
+    @Test
+    void negotiate_PrefersZstdOverGzip() {
+        assertEquals(ContentEncoding.ZSTD, ContentEncoding.negotiate("gzip, deflate, br, zstd", ALL));
+        assertEquals(ContentEncoding.GZIP, ContentEncoding.negotiate("gzip, deflate, br", ALL));
+    }
+
+    @Test
+    void negotiate_SkipsUnavailableEncodings() {
+        assertEquals(ContentEncoding.GZIP, ContentEncoding.negotiate("zstd, gzip", EnumSet.of(ContentEncoding.GZIP)));
+    }
+
+    @Test
+    void negotiate_HonoursZeroWeightAndWildcard() {
+        assertEquals(ContentEncoding.GZIP, ContentEncoding.negotiate("*, zstd;q=0", ALL));
+        assertEquals(ContentEncoding.ZSTD, ContentEncoding.negotiate("GZIP;q=0.5, *;q=0.1", ALL));
+        assertNull(ContentEncoding.negotiate("gzip;q=0, zstd;q=0.000", ALL));
+    }
+
+    @Test
+    void negotiate_ReturnsNullWhenNothingAccepted() {
+        assertNull(ContentEncoding.negotiate(null, ALL));
+        assertNull(ContentEncoding.negotiate("identity", ALL));
+        assertNull(ContentEncoding.negotiate("deflate, br", ALL));
+    }
+}
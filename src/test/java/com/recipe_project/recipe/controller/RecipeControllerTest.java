@@ -2,6 +2,7 @@ package com.recipe_project.recipe.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.dto.RecipeSummaryDTO;
 import com.recipe_project.recipe.exception.RecipeNotFoundException;
 import com.recipe_project.recipe.service.RecipeService;
 import org.junit.jupiter.api.BeforeEach;
@@ -213,4 +214,71 @@ public class RecipeControllerTest {
                 .andExpect(jsonPath("$.error", is("Invalid argument")))
                 .andExpect(jsonPath("$.message", is("Search query must be at least 2 characters long.")));
     }
+
+    @Test
+    void getAllRecipes_SummaryFields() throws Exception {
+        RecipeSummaryDTO summary = RecipeSummaryDTO.builder()
+                .id(1L)
+                .name("Test Recipe")
+                .cuisine("Italian")
+                .tags(List.of("tag1", "tag2"))
+                .cookTimeMinutes(30)
+                .image("test_image_url")
+                .rating(4.5)
+                .build();
+        when(recipeService.getAllRecipeSummaries()).thenReturn(List.of(summary));
+
+        mockMvc.perform(get("/api/recipes")
+                        .param("fields", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name", is("Test Recipe")))
+                .andExpect(jsonPath("$[0].tags", hasSize(2)))
+                .andExpect(jsonPath("$[0].instructions").doesNotExist())
+                .andExpect(jsonPath("$[0].ingredients").doesNotExist());
+
+        verify(recipeService).getAllRecipeSummaries();
+        verify(recipeService, never()).getAllRecipes();
+    }
+
+    @Test
+    void searchRecipes_SummaryFields() throws Exception {
+        RecipeSummaryDTO summary = RecipeSummaryDTO.builder()
+                .id(1L)
+                .name("Test Recipe")
+                .build();
+        when(recipeService.searchRecipeSummaries("pizza")).thenReturn(List.of(summary));
+
+        mockMvc.perform(get("/api/recipes/search")
+                        .param("q", "pizza")
+                        .param("fields", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name", is("Test Recipe")));
+
+        verify(recipeService).searchRecipeSummaries("pizza");
+        verify(recipeService, never()).searchRecipes(anyString());
+    }
+
+    @Test
+    void getAllRecipes_UnsupportedFields() throws Exception {
+        mockMvc.perform(get("/api/recipes")
+                        .param("fields", "everything"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("Invalid argument")));
+
+        verifyNoInteractions(recipeService);
+    }
+
+    @Test
+    void searchRecipes_FieldsAreMatchedExactly() throws Exception {
+        mockMvc.perform(get("/api/recipes/search")
+                        .param("q", "pizza")
+                        .param("fields", "Summary"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Unsupported fields value: Summary. Use 'full' or 'summary'.")));
+
+        verifyNoInteractions(recipeService);
+    }
 }
@@ -0,0 +1,65 @@
+package com.recipe_project.recipe.health;
+
+import com.recipe_project.recipe.entity.CatalogState;
+import com.recipe_project.recipe.health.CatalogInitialization.Phase;
+import com.recipe_project.recipe.repository.CatalogStateRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogHealthIndicatorTest {
+
+    @Mock
+    private CatalogStateRepository catalogStateRepository;
+
+    @Test
+    void health_OutOfServiceUntilStartupLoadCompletes() {
+        CatalogInitialization initialization = new CatalogInitialization(true);
+        CatalogHealthIndicator indicator = new CatalogHealthIndicator(initialization, catalogStateRepository);
+        assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+
+        initialization.phase(Phase.FETCHING_UPSTREAM, () -> {
+            assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+            return 30;
+        });
+        initialization.ready("external API");
+
+        Health health = indicator.health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals("ready", health.getDetails().get("phase"));
+        assertEquals("external API", health.getDetails().get("loadedFrom"));
+        assertTrue(((Map<?, ?>) health.getDetails().get("phaseMillis")).containsKey("fetching_upstream"));
+    }
+
+    @Test
+    void health_FailedLoadIsReadyOnlyOnceACatalogIsStored() {
+        CatalogInitialization initialization = new CatalogInitialization(true);
+        CatalogHealthIndicator indicator = new CatalogHealthIndicator(initialization, catalogStateRepository);
+        initialization.failed("Connection refused");
+
+        when(catalogStateRepository.existsById(CatalogState.SINGLETON_ID)).thenReturn(false);
+        Health health = indicator.health();
+        assertEquals(Status.OUT_OF_SERVICE, health.getStatus());
+        assertEquals("Connection refused", health.getDetails().get("error"));
+
+        when(catalogStateRepository.existsById(CatalogState.SINGLETON_ID)).thenReturn(true);
+        assertEquals(Status.UP, indicator.health().getStatus());
+    }
+
+    @Test
+    void health_UpWhenStartupLoadingIsDisabled() {
+        CatalogHealthIndicator indicator = new CatalogHealthIndicator(new CatalogInitialization(false), catalogStateRepository);
+
+        assertEquals(Status.UP, indicator.health().getStatus());
+        verifyNoInteractions(catalogStateRepository);
+    }
+}
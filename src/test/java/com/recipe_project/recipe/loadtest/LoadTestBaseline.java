@@ -0,0 +1,96 @@
+package com.recipe_project.recipe.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Stored latency and throughput expectations per scenario, read from
+ * {@code loadtest/baseline.properties} on the test classpath. A metric regresses when it is
+ * worse than its baseline by more than {@code tolerance} (a fraction, e.g. 0.5 = 50%).
+ */
+final class LoadTestBaseline {
+
+    private static final String RESOURCE = "/loadtest/baseline.properties";
+
+    private final Properties properties;
+    private final double tolerance;
+    private final double maxErrorRate;
+
+    private LoadTestBaseline(Properties properties) {
+        this.properties = properties;
+        this.tolerance = Double.parseDouble(System.getProperty("loadtest.tolerance", properties.getProperty("tolerance", "0.5")));
+        this.maxErrorRate = Double.parseDouble(properties.getProperty("max-error-rate", "0.01"));
+    }
+
+    static LoadTestBaseline load() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = LoadTestBaseline.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing load test baseline " + RESOURCE);
+            }
+            properties.load(in);
+        }
+        return new LoadTestBaseline(properties);
+    }
+
+    double rate(String scenario, double defaultRate) {
+        return Double.parseDouble(properties.getProperty(scenario + ".rate", String.valueOf(defaultRate)));
+    }
+
+    /**
+     * Returns a description of every metric of {@code result} that regressed, empty when within tolerance.
+     */
+    List<String> regressions(OpenModelLoadGenerator.LoadResult result) {
+        List<String> regressions = new ArrayList<>();
+        String scenario = result.scenario();
+        checkLatency(regressions, scenario, "p50-ms", result.percentileMillis(50));
+        checkLatency(regressions, scenario, "p99-ms", result.percentileMillis(99));
+        checkLatency(regressions, scenario, "p999-ms", result.percentileMillis(99.9));
+
+        String throughputKey = scenario + ".throughput";
+        if (properties.containsKey(throughputKey)) {
+            double baseline = Double.parseDouble(properties.getProperty(throughputKey));
+            if (result.throughput() < baseline * (1 - tolerance)) {
+                regressions.add(String.format("%s throughput %.1f/s below baseline %.1f/s", scenario, result.throughput(), baseline));
+            }
+        }
+        if (result.errorRate() > maxErrorRate) {
+            regressions.add(String.format("%s error rate %.3f above %.3f", scenario, result.errorRate(), maxErrorRate));
+        }
+        return regressions;
+    }
+
+    private void checkLatency(List<String> regressions, String scenario, String metric, double actual) {
+        String key = scenario + "." + metric;
+        if (!properties.containsKey(key)) {
+            return;
+        }
+        double baseline = Double.parseDouble(properties.getProperty(key));
+        if (actual > baseline * (1 + tolerance)) {
+            regressions.add(String.format("%s %s %.2f above baseline %.2f", scenario, metric, actual, baseline));
+        }
+    }
+
+    /**
+     * Writes the measured values in baseline format so a new baseline can be reviewed and copied over.
+     */
+    static void writeResults(Path file, List<OpenModelLoadGenerator.LoadResult> results) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            for (OpenModelLoadGenerator.LoadResult result : results) {
+                String scenario = result.scenario();
+                writer.write(String.format("%s.rate=%.1f%n", scenario, result.offeredRate()));
+                writer.write(String.format("%s.p50-ms=%.2f%n", scenario, result.percentileMillis(50)));
+                writer.write(String.format("%s.p99-ms=%.2f%n", scenario, result.percentileMillis(99)));
+                writer.write(String.format("%s.p999-ms=%.2f%n", scenario, result.percentileMillis(99.9)));
+                writer.write(String.format("%s.throughput=%.1f%n", scenario, result.throughput()));
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.recipe_project.recipe.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-model HTTP load generator: requests are issued on a fixed arrival schedule whether or
+ * not earlier ones have completed, and latency is measured from the scheduled send time, so a
+ * stalled server shows up as queueing delay instead of silently lowering the offered load.
+ */
+final class OpenModelLoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final HttpClient httpClient;
+
+    OpenModelLoadGenerator(HttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    LoadResult run(String scenario, double requestsPerSecond, Duration duration, Supplier<HttpRequest> requests)
+            throws InterruptedException {
+        Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        LongAdder succeeded = new LongAdder();
+        LongAdder failed = new LongAdder();
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        long totalRequests = Math.max(1, (long) (requestsPerSecond * duration.toMillis() / 1000.0));
+        List<CompletableFuture<?>> inFlight = new ArrayList<>((int) Math.min(totalRequests, Integer.MAX_VALUE));
+
+        long start = System.nanoTime();
+        for (long i = 0; i < totalRequests; i++) {
+            long scheduledAt = start + i * intervalNanos;
+            long wait = scheduledAt - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight.add(httpClient.sendAsync(requests.get(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledAt);
+                        latencies.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+                        if (error == null && response.statusCode() < 400) {
+                            succeeded.increment();
+                        } else {
+                            failed.increment();
+                        }
+                    }));
+        }
+
+        try {
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+                    .exceptionally(error -> null)
+                    .get(2, TimeUnit.MINUTES);
+        } catch (TimeoutException | java.util.concurrent.ExecutionException e) {
+            // Requests still outstanding are counted as failures below
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long outstanding = totalRequests - succeeded.sum() - failed.sum();
+
+        return new LoadResult(scenario, requestsPerSecond, totalRequests, succeeded.sum(), failed.sum() + outstanding,
+                succeeded.sum() / (elapsedNanos / 1e9), latencies);
+    }
+
+    record LoadResult(String scenario, double offeredRate, long sent, long succeeded, long failed,
+                      double throughput, Histogram latencies) {
+
+        double percentileMillis(double percentile) {
+            return latencies.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        double errorRate() {
+            return sent == 0 ? 0 : failed / (double) sent;
+        }
+
+        String summary() {
+            return String.format("%-7s offered=%.0f/s sent=%d ok=%d failed=%d throughput=%.1f/s p50=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms",
+                    scenario, offeredRate, sent, succeeded, failed, throughput,
+                    percentileMillis(50), percentileMillis(99), percentileMillis(99.9), latencies.getMaxValue() / 1000.0);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.recipe_project.recipe.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipe_project.recipe.entity.Recipe;
+import com.recipe_project.recipe.repository.RecipeRepository;
+import com.recipe_project.recipe.stub.StubRecipeApiServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load test of the public endpoints against the application on a random port,
+ * with the upstream API replaced by {@link StubRecipeApiServer}. Each scenario is driven at a
+ * fixed arrival rate, and p50/p99/p99.9 latency and throughput are compared against
+ * {@code loadtest/baseline.properties}:
+ * <pre>
+ * mvn -Pload-test test -Dtest=RecipeApiLoadTest
+ * mvn -Pload-test test -Dtest=RecipeApiLoadTest -Dloadtest.duration-seconds=30 -Dloadtest.tolerance=0.25
+ * </pre>
+ * Measured values are written to {@code target/loadtest/results.properties} in baseline format.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "recipe.catalog.initialize-on-startup=false",
+        "spring.datasource.url=jdbc:h2:mem:apiloadtestdb",
+        "spring.r2dbc.url=r2dbc:h2:mem:///apiloadtestdb",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "logging.level.com.recipe_project=WARN"
+})
+public class RecipeApiLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecipeApiLoadTest.class);
+
+    private static final int CATALOG_SIZE = Integer.getInteger("loadtest.catalog-size", 500);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 5));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 15));
+    private static final String[] SEARCH_TERMS = {"chicken", "italian", "garlic", "soup", "korean", "spicy", "rice"};
+
+    private static StubRecipeApiServer upstream;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        registry.add("external.api.recipes.base-url", () -> startUpstream().getBaseUrl());
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        if (upstream != null) {
+            upstream.stop();
+            upstream = null;
+        }
+    }
+
+    @Test
+    void endpointsStayWithinBaseline() throws Exception {
+        HttpResponse<String> load = httpClient.send(post("/api/recipes/load"), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, load.statusCode(), load.body());
+        List<Long> ids = recipeRepository.findAll().stream().map(Recipe::getId).toList();
+        assertEquals(CATALOG_SIZE, ids.size());
+
+        LoadTestBaseline baseline = LoadTestBaseline.load();
+        OpenModelLoadGenerator generator = new OpenModelLoadGenerator(httpClient);
+        List<OpenModelLoadGenerator.LoadResult> results = new ArrayList<>();
+
+        results.add(scenario(generator, baseline, "list", 20, () -> get("/api/recipes")));
+        results.add(scenario(generator, baseline, "search", 100,
+                () -> get("/api/recipes/search?q=" + SEARCH_TERMS[ThreadLocalRandom.current().nextInt(SEARCH_TERMS.length)])));
+        results.add(scenario(generator, baseline, "detail", 300,
+                () -> get("/api/recipes/" + ids.get(ThreadLocalRandom.current().nextInt(ids.size())))));
+        // Reloading replaces the ids, so it runs last
+        results.add(scenario(generator, baseline, "load", 1, () -> post("/api/recipes/load")));
+
+        LoadTestBaseline.writeResults(Path.of("target", "loadtest", "results.properties"), results);
+
+        List<String> regressions = new ArrayList<>();
+        for (OpenModelLoadGenerator.LoadResult result : results) {
+            logger.warn("load test {}", result.summary());
+            regressions.addAll(baseline.regressions(result));
+        }
+        assertTrue(regressions.isEmpty(), "Load test regressions:\n" + String.join("\n", regressions));
+    }
+
+    private OpenModelLoadGenerator.LoadResult scenario(OpenModelLoadGenerator generator, LoadTestBaseline baseline,
+                                                       String name, double defaultRate, Supplier<HttpRequest> requests)
+            throws InterruptedException {
+        double rate = baseline.rate(name, defaultRate);
+        generator.run(name, rate, WARMUP, requests);
+        return generator.run(name, rate, DURATION, requests);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(60))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    private static StubRecipeApiServer startUpstream() {
+        if (upstream == null) {
+            StubRecipeApiServer server = new StubRecipeApiServer(StubRecipeApiServer.Settings.of(CATALOG_SIZE), new ObjectMapper());
+            try {
+                server.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            upstream = server;
+        }
+        return upstream;
+    }
+}
@@ -0,0 +1,165 @@
+package com.recipe_project.recipe.loadtest;
+
+import com.recipe_project.recipe.entity.Recipe;
+import com.recipe_project.recipe.repository.CatalogDictionary;
+import com.recipe_project.recipe.repository.RecipeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Closed-model throughput test for the blocking MVC/JPA read endpoints. Run it once per
+ * threading mode and compare the reported throughput:
+ * <pre>
+ * mvn -Pload-test test -Dtest=ThreadingModeLoadTest
+ * mvn -Pload-test test -Dtest=ThreadingModeLoadTest -Dspring.threads.virtual.enabled=true   (Java 21+)
+ * </pre>
+ * The JDBC pool stays bounded by {@code spring.datasource.hikari.maximum-pool-size}, so the
+ * difference comes from how many requests can wait on it without occupying a platform thread.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "recipe.catalog.initialize-on-startup=false",
+        "spring.datasource.url=jdbc:h2:mem:loadtestdb",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "logging.level.com.recipe_project=WARN"
+})
+public class ThreadingModeLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThreadingModeLoadTest.class);
+
+    private static final int CATALOG_SIZE = Integer.getInteger("loadtest.catalog-size", 1000);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 400);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 10));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int jdbcPoolSize;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private List<Long> recipeIds;
+
+    @BeforeEach
+    void seedCatalog() {
+        if (recipeRepository.count() == CATALOG_SIZE) {
+            recipeIds = recipeRepository.findAll().stream().map(Recipe::getId).toList();
+            return;
+        }
+        recipeRepository.deleteAll();
+        CatalogDictionary dictionary = recipeRepository.loadDictionary();
+        List<Recipe> recipes = new ArrayList<>(CATALOG_SIZE);
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            recipes.add(Recipe.builder()
+                    .name((i % 10 == 0 ? "Pasta " : "Dish ") + i)
+                    .cuisine(dictionary.cuisine(i % 2 == 0 ? "Italian" : "Mexican"))
+                    .cookTimeMinutes(10 + i % 50)
+                    .prepTimeMinutes(5 + i % 20)
+                    .servings(2 + i % 4)
+                    .difficulty(i % 3 == 0 ? "Easy" : "Medium")
+                    .tags(dictionary.tags(List.of("tag" + i % 25, "dinner")))
+                    .ingredients(List.of("ingredient " + i % 100, "Salt and pepper to taste", "Olive oil"))
+                    .instructions(List.of("Prepare the ingredients.", "Cook for " + (10 + i % 50) + " minutes.", "Serve."))
+                    .image("https://example.com/recipe/" + i + ".webp")
+                    .rating(3.0 + (i % 20) / 10.0)
+                    .reviewCount(i % 500)
+                    .caloriesPerServing(200 + i % 400)
+                    .userId(i % 200)
+                    .mealType(dictionary.mealTypes(List.of("Dinner")))
+                    .build());
+        }
+        recipeRepository.saveDictionary(dictionary);
+        recipeIds = recipeRepository.saveAll(recipes).stream().map(Recipe::getId).toList();
+    }
+
+    @Test
+    void searchThroughput() throws Exception {
+        LoadResult result = drive("search", () -> "/api/recipes/search?q=pasta");
+
+        assertEquals(0, result.errors(), "search requests failed under load");
+        assertTrue(result.completed() > 0);
+    }
+
+    @Test
+    void detailThroughput() throws Exception {
+        LoadResult result = drive("detail",
+                () -> "/api/recipes/" + recipeIds.get(ThreadLocalRandom.current().nextInt(recipeIds.size())));
+
+        assertEquals(0, result.errors(), "detail requests failed under load");
+        assertTrue(result.completed() > 0);
+    }
+
+    private LoadResult drive(String endpoint, Supplier<String> pathSupplier) throws InterruptedException {
+        LongAdder completed = new LongAdder();
+        LongAdder errors = new LongAdder();
+        long deadline = System.nanoTime() + DURATION.toNanos();
+
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; i++) {
+            clients.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + pathSupplier.get()))
+                            .timeout(Duration.ofSeconds(30))
+                            .GET()
+                            .build();
+                    try {
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() == 200) {
+                            completed.increment();
+                        } else {
+                            errors.increment();
+                        }
+                    } catch (Exception e) {
+                        errors.increment();
+                    }
+                }
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(DURATION.toSeconds() + 60, TimeUnit.SECONDS);
+
+        LoadResult result = new LoadResult(completed.sum(), errors.sum());
+        logger.warn("threads={} endpoint={} concurrency={} jdbcPool={} catalog={} completed={} errors={} throughput={} req/s",
+                virtualThreads ? "virtual" : "platform", endpoint, CONCURRENCY, jdbcPoolSize, CATALOG_SIZE,
+                result.completed(), result.errors(),
+                String.format("%.1f", result.completed() / (double) DURATION.toSeconds()));
+        return result;
+    }
+
+    private record LoadResult(long completed, long errors) {
+    }
+}
@@ -1,11 +1,18 @@
 package com.recipe_project.recipe.mapper;
 
 import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.entity.Cuisine;
+import com.recipe_project.recipe.entity.MealType;
 import com.recipe_project.recipe.entity.Recipe;
+import com.recipe_project.recipe.entity.Tag;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import com.recipe_project.recipe.dto.RecipeSummaryDTO;
+import com.recipe_project.recipe.repository.CatalogDictionary;
+import com.recipe_project.recipe.repository.RecipeSummaryView;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -14,21 +21,23 @@ public class RecipeMapperTest {
     private RecipeMapper recipeMapper;
     private Recipe testRecipeEntity;
     private RecipeDTO testRecipeDTO;
+    private CatalogDictionary dictionary;
 
     @BeforeEach
     void setUp() {
         recipeMapper = new RecipeMapper();
+        dictionary = new CatalogDictionary();
 
         // Create test Recipe entity
         testRecipeEntity = Recipe.builder()
                 .id(1L)
                 .name("Test Recipe")
-                .cuisine("Italian")
+                .cuisine(dictionary.cuisine("Italian"))
                 .cookTimeMinutes(30)
                 .prepTimeMinutes(15)
                 .servings(4)
                 .difficulty("Easy")
-                .tags(List.of("tag1", "tag2"))
+                .tags(dictionary.tags(List.of("tag1", "tag2")))
                 .ingredients(List.of("ingredient1", "ingredient2"))
                 .instructions(List.of("step1", "step2"))
                 .image("test_image_url")
@@ -36,7 +45,7 @@ public class RecipeMapperTest {
                 .reviewCount(10)
                 .caloriesPerServing(250)
                 .userId(123)
-                .mealType(List.of("Dinner"))
+                .mealType(dictionary.mealTypes(List.of("Dinner")))
                 .build();
 
         // Create test RecipeDTO
@@ -67,12 +76,12 @@ public class RecipeMapperTest {
         assertNotNull(result);
         assertEquals(testRecipeEntity.getId(), result.getId());
         assertEquals(testRecipeEntity.getName(), result.getName());
-        assertEquals(testRecipeEntity.getCuisine(), result.getCuisine());
+        assertEquals("Italian", result.getCuisine());
         assertEquals(testRecipeEntity.getCookTimeMinutes(), result.getCookTimeMinutes());
         assertEquals(testRecipeEntity.getPrepTimeMinutes(), result.getPrepTimeMinutes());
         assertEquals(testRecipeEntity.getServings(), result.getServings());
         assertEquals(testRecipeEntity.getDifficulty(), result.getDifficulty());
-        assertEquals(testRecipeEntity.getTags(), result.getTags());
+        assertEquals(List.of("tag1", "tag2"), result.getTags());
         assertEquals(testRecipeEntity.getIngredients(), result.getIngredients());
         assertEquals(testRecipeEntity.getInstructions(), result.getInstructions());
         assertEquals(testRecipeEntity.getImage(), result.getImage());
@@ -80,7 +89,21 @@ public class RecipeMapperTest {
         assertEquals(testRecipeEntity.getReviewCount(), result.getReviewCount());
         assertEquals(testRecipeEntity.getCaloriesPerServing(), result.getCaloriesPerServing());
         assertEquals(testRecipeEntity.getUserId(), result.getUserId());
-        assertEquals(testRecipeEntity.getMealType(), result.getMealType());
+        assertEquals(List.of("Dinner"), result.getMealType());
+    }
+
+    @Test
+    void toDTO_CopiesListsIntoUnmodifiableLists() {
+        List<String> ingredients = new ArrayList<>(List.of("ingredient1"));
+        testRecipeEntity.setIngredients(ingredients);
+
+        RecipeDTO result = recipeMapper.toDTO(testRecipeEntity);
+        ingredients.add("ingredient2");
+
+        assertEquals(List.of("ingredient1"), result.getIngredients());
+        assertThrows(UnsupportedOperationException.class, () -> result.getIngredients().add("ingredient3"));
+        assertThrows(UnsupportedOperationException.class, () -> result.getTags().clear());
+        assertThrows(UnsupportedOperationException.class, () -> result.getMealType().set(0, "Lunch"));
     }
 
     @Test
@@ -94,7 +117,7 @@ public class RecipeMapperTest {
         Recipe partialRecipe = Recipe.builder()
                 .id(2L)
                 .name("Partial Recipe")
-                .cuisine("Mexican")
+                .cuisine(dictionary.cuisine("Mexican"))
                 .build();
 
         RecipeDTO result = recipeMapper.toDTO(partialRecipe);
@@ -125,12 +148,12 @@ public class RecipeMapperTest {
         assertNotNull(result);
         assertEquals(testRecipeDTO.getId(), result.getId());
         assertEquals(testRecipeDTO.getName(), result.getName());
-        assertEquals(testRecipeDTO.getCuisine(), result.getCuisine());
+        assertEquals(testRecipeDTO.getCuisine(), result.getCuisine().getName());
         assertEquals(testRecipeDTO.getCookTimeMinutes(), result.getCookTimeMinutes());
         assertEquals(testRecipeDTO.getPrepTimeMinutes(), result.getPrepTimeMinutes());
         assertEquals(testRecipeDTO.getServings(), result.getServings());
         assertEquals(testRecipeDTO.getDifficulty(), result.getDifficulty());
-        assertEquals(testRecipeDTO.getTags(), result.getTags());
+        assertEquals(testRecipeDTO.getTags(), result.getTags().stream().map(Tag::getName).toList());
         assertEquals(testRecipeDTO.getIngredients(), result.getIngredients());
         assertEquals(testRecipeDTO.getInstructions(), result.getInstructions());
         assertEquals(testRecipeDTO.getImage(), result.getImage());
@@ -138,7 +161,7 @@ public class RecipeMapperTest {
         assertEquals(testRecipeDTO.getReviewCount(), result.getReviewCount());
         assertEquals(testRecipeDTO.getCaloriesPerServing(), result.getCaloriesPerServing());
         assertEquals(testRecipeDTO.getUserId(), result.getUserId());
-        assertEquals(testRecipeDTO.getMealType(), result.getMealType());
+        assertEquals(testRecipeDTO.getMealType(), result.getMealType().stream().map(MealType::getName).toList());
     }
 
     @Test
@@ -161,7 +184,7 @@ public class RecipeMapperTest {
         assertNotNull(result);
         assertEquals(3L, result.getId());
         assertEquals("Partial DTO", result.getName());
-        assertEquals("Thai", result.getCuisine());
+        assertEquals("Thai", result.getCuisine().getName());
         assertEquals(3.8, result.getRating());
         assertNull(result.getCookTimeMinutes());
         assertNull(result.getPrepTimeMinutes());
@@ -177,15 +200,35 @@ public class RecipeMapperTest {
         assertNull(result.getMealType());
     }
 
+    @Test
+    void toEntity_SharesOneEntityPerDictionaryName() {
+        Cuisine stored = Cuisine.builder().id(7L).name("Italian").build();
+        CatalogDictionary dictionary = new CatalogDictionary(List.of(), List.of(stored), List.of());
+        RecipeDTO second = RecipeDTO.builder()
+                .name("Second Recipe")
+                .cuisine("Italian")
+                .tags(List.of("tag2", "tag3"))
+                .build();
+
+        Recipe first = recipeMapper.toEntity(testRecipeDTO, dictionary);
+        Recipe other = recipeMapper.toEntity(second, dictionary);
+
+        assertSame(stored, first.getCuisine());
+        assertSame(stored, other.getCuisine());
+        assertSame(first.getTags().get(1), other.getTags().get(0));
+        // tag1, tag2, tag3 and Dinner are new; the stored cuisine is not re-added
+        assertEquals(4, dictionary.getAdded().size());
+    }
+
     @Test
     void toDTO_WithEmptyLists() {
         Recipe recipeWithEmptyLists = Recipe.builder()
                 .id(4L)
                 .name("Recipe with Empty Lists")
-                .tags(List.of())
+                .tags(dictionary.tags(List.of()))
                 .ingredients(List.of())
                 .instructions(List.of())
-                .mealType(List.of())
+                .mealType(dictionary.mealTypes(List.of()))
                 .build();
 
         RecipeDTO result = recipeMapper.toDTO(recipeWithEmptyLists);
@@ -274,4 +317,31 @@ public class RecipeMapperTest {
         assertEquals(testRecipeDTO.getUserId(), roundTripDTO.getUserId());
         assertEquals(testRecipeDTO.getMealType(), roundTripDTO.getMealType());
     }
+
+    @Test
+    void toSummaryDTO_CopiesCardFields() {
+        RecipeSummaryView view = new RecipeSummaryView() {
+            public Long getId() { return 1L; }
+            public String getName() { return "Test Recipe"; }
+            public String getCuisine() { return "Italian"; }
+            public Integer getCookTimeMinutes() { return 30; }
+            public String getImage() { return "test_image_url"; }
+            public Double getRating() { return 4.5; }
+        };
+
+        RecipeSummaryDTO result = recipeMapper.toSummaryDTO(view, List.of("tag1"));
+
+        assertEquals(1L, result.getId());
+        assertEquals("Test Recipe", result.getName());
+        assertEquals("Italian", result.getCuisine());
+        assertEquals(30, result.getCookTimeMinutes());
+        assertEquals("test_image_url", result.getImage());
+        assertEquals(4.5, result.getRating());
+        assertEquals(List.of("tag1"), result.getTags());
+    }
+
+    @Test
+    void toSummaryDTO_NullInput() {
+        assertNull(recipeMapper.toSummaryDTO(null, List.of()));
+    }
 }
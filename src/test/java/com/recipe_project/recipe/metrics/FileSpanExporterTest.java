@@ -0,0 +1,53 @@
+package com.recipe_project.recipe.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileSpanExporterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void export_WritesOneJsonLinePerSpanWithParentLinks() throws Exception {
+        Path file = tempDir.resolve("traces/spans.jsonl");
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(new FileSpanExporter(objectMapper.getFactory(), file)))
+                .build();
+        Tracer tracer = tracerProvider.get("test");
+
+        Span parent = tracer.spanBuilder("load").startSpan();
+        try (Scope ignored = parent.makeCurrent()) {
+            tracer.spanBuilder("load.fetch").setAttribute("stage", "load.fetch").startSpan().end();
+        } finally {
+            parent.end();
+        }
+        tracerProvider.shutdown().join(5, TimeUnit.SECONDS);
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        JsonNode child = objectMapper.readTree(lines.get(0));
+        JsonNode root = objectMapper.readTree(lines.get(1));
+        assertEquals("load.fetch", child.get("name").asText());
+        assertEquals("load.fetch", child.get("attributes").get("stage").asText());
+        assertEquals(root.get("spanId").asText(), child.get("parentSpanId").asText());
+        assertEquals(root.get("traceId").asText(), child.get("traceId").asText());
+        assertNull(root.get("parentSpanId"));
+    }
+}
@@ -0,0 +1,99 @@
+package com.recipe_project.recipe.metrics;
+
+import com.recipe_project.recipe.admission.EndpointClass;
+import com.recipe_project.recipe.exception.RecipeNotFoundException;
+import com.recipe_project.recipe.metrics.RecipeMetrics.Operation;
+import com.recipe_project.recipe.metrics.RecipeMetrics.Outcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecipeMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private RecipeMetrics recipeMetrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        recipeMetrics = new RecipeMetrics(registry);
+    }
+
+    @Test
+    void recordOperation_TagsByOperationAndOutcome() {
+        recipeMetrics.recordOperation(Operation.SEARCH, Outcome.SUCCESS, System.nanoTime());
+        recipeMetrics.recordOperation(Operation.SEARCH, Outcome.SUCCESS, System.nanoTime());
+        recipeMetrics.recordOperation(Operation.GET_BY_ID, Outcome.NOT_FOUND, System.nanoTime());
+
+        assertEquals(2, registry.get("recipe.service.operations")
+                .tags("operation", "search", "outcome", "success").timer().count());
+        assertEquals(1, registry.get("recipe.service.operations")
+                .tags("operation", "get_by_id", "outcome", "not_found").timer().count());
+        assertEquals(0, registry.get("recipe.service.operations")
+                .tags("operation", "load", "outcome", "error").timer().count());
+    }
+
+    @Test
+    void recordResultSize_RecordsRecipeCount() {
+        recipeMetrics.recordResultSize(Operation.GET_ALL, 30);
+
+        assertEquals(30.0, registry.get("recipe.service.results")
+                .tag("operation", "get_all").summary().totalAmount());
+    }
+
+    @Test
+    void recordExternalFetch_CountsRetriesSeparately() {
+        recipeMetrics.recordExternalFetch(Outcome.ERROR, System.nanoTime(), false);
+        recipeMetrics.recordExternalFetch(Outcome.SUCCESS, System.nanoTime(), true);
+
+        assertEquals(2.0, registry.get("recipe.external.fetch.attempts").counter().count());
+        assertEquals(1.0, registry.get("recipe.external.fetch.retries").counter().count());
+        assertEquals(1, registry.get("recipe.external.fetch").tag("outcome", "error").timer().count());
+    }
+
+    @Test
+    void recordCacheAccess_SeparatesHitsAndMisses() {
+        recipeMetrics.recordCacheAccess("recipes", true);
+        recipeMetrics.recordCacheAccess("recipes", true);
+        recipeMetrics.recordCacheAccess("recipes", false);
+
+        assertEquals(2.0, registry.get("recipe.cache.gets").tags("cache", "recipes", "result", "hit").counter().count());
+        assertEquals(1.0, registry.get("recipe.cache.gets").tags("cache", "recipes", "result", "miss").counter().count());
+        assertEquals(2, registry.get("recipe.cache.gets").counters().size());
+    }
+
+    @Test
+    void recordAdmissionRejected_UsesCountersRegisteredUpFront() {
+        assertEquals(EndpointClass.values().length, registry.get("recipe.admission.rejected").counters().size());
+
+        recipeMetrics.recordAdmissionRejected(EndpointClass.SEARCH);
+
+        assertEquals(1.0, registry.get("recipe.admission.rejected").tag("class", "search").counter().count());
+        assertEquals(0.0, registry.get("recipe.admission.rejected").tag("class", "detail").counter().count());
+    }
+
+    @Test
+    void recordRequestSql_ReusesRouteMetersAndAddsBudgetCounterOnFirstOverrun() {
+        SqlProfile profile = SqlProfile.begin();
+        SqlProfile.end();
+
+        recipeMetrics.recordRequestSql("/api/recipes/{id}", profile, false);
+        assertNull(registry.find("recipe.sql.budget.exceeded").counter());
+        recipeMetrics.recordRequestSql("/api/recipes/{id}", profile, true);
+        recipeMetrics.recordRequestSql("/api/recipes/{id}", profile, true);
+        recipeMetrics.recordRequestSql("/api/recipes", profile, false);
+
+        assertEquals(3, registry.get("recipe.sql.statements").tag("route", "/api/recipes/{id}").summary().count());
+        assertEquals(1, registry.get("recipe.sql.time").tag("route", "/api/recipes").timer().count());
+        assertEquals(2.0, registry.get("recipe.sql.budget.exceeded").tag("route", "/api/recipes/{id}").counter().count());
+    }
+
+    @Test
+    void outcomeOf_MapsKnownExceptions() {
+        assertEquals(Outcome.NOT_FOUND, RecipeMetrics.outcomeOf(new RecipeNotFoundException("missing")));
+        assertEquals(Outcome.INVALID, RecipeMetrics.outcomeOf(new IllegalArgumentException("bad")));
+        assertEquals(Outcome.ERROR, RecipeMetrics.outcomeOf(new RuntimeException("boom")));
+    }
+}
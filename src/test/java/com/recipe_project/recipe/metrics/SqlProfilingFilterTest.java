@@ -0,0 +1,82 @@
+package com.recipe_project.recipe.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlProfilingFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private RecipeMetrics recipeMetrics;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        recipeMetrics = new RecipeMetrics(registry);
+        request = new MockHttpServletRequest("GET", "/api/recipes/1");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void doFilter_WritesDebugHeadersBeforeBody() throws Exception {
+        SqlProfilingFilter filter = new SqlProfilingFilter(recipeMetrics, 25, true);
+
+        filter.doFilter(request, response, executing(3, "{}"));
+
+        assertEquals("3", response.getHeader(SqlProfilingFilter.STATEMENTS_HEADER));
+        assertEquals("3", response.getHeader(SqlProfilingFilter.ENTITIES_HEADER));
+        assertEquals("0", response.getHeader(SqlProfilingFilter.COLLECTIONS_HEADER));
+        assertNotNull(response.getHeader(SqlProfilingFilter.TIME_HEADER));
+        assertEquals("{}", response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_OmitsHeadersWhenDebugDisabled() throws Exception {
+        SqlProfilingFilter filter = new SqlProfilingFilter(recipeMetrics, 25, false);
+
+        filter.doFilter(request, response, executing(3, "{}"));
+
+        assertNull(response.getHeader(SqlProfilingFilter.STATEMENTS_HEADER));
+        assertEquals("{}", response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_RecordsMetricsUnderRouteTemplate() throws Exception {
+        SqlProfilingFilter filter = new SqlProfilingFilter(recipeMetrics, 2, false);
+
+        filter.doFilter(request, response, executing(3, "{}"));
+
+        assertEquals(3.0, registry.get("recipe.sql.statements").tag("route", "/api/recipes/{id}").summary().totalAmount());
+        assertEquals(1.0, registry.get("recipe.sql.budget.exceeded").tag("route", "/api/recipes/{id}").counter().count());
+        assertNull(SqlProfile.current());
+    }
+
+    @Test
+    void doFilter_WithinBudget_DoesNotCountExceeded() throws Exception {
+        SqlProfilingFilter filter = new SqlProfilingFilter(recipeMetrics, 25, false);
+
+        filter.doFilter(request, response, executing(3, "{}"));
+
+        assertNull(registry.find("recipe.sql.budget.exceeded").counter());
+    }
+
+    private FilterChain executing(int statements, String body) {
+        return (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/recipes/{id}");
+            SqlProfile profile = SqlProfile.current();
+            for (int i = 0; i < statements; i++) {
+                profile.recordStatement(1_000);
+                profile.recordEntityLoaded();
+            }
+            res.getWriter().write(body);
+        };
+    }
+}
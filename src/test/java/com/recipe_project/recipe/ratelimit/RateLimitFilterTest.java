@@ -0,0 +1,117 @@
+package com.recipe_project.recipe.ratelimit;
+
+import com.recipe_project.recipe.metrics.RecipeMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private AtomicLong clock;
+    private TokenBucketStore store;
+    private RateLimitFilter filter;
+    private AtomicInteger chainCalls;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        RecipeMetrics recipeMetrics = new RecipeMetrics(registry);
+        clock = new AtomicLong();
+        store = new TokenBucketStore(2, 0.5, 100, clock::get);
+        recipeMetrics.registerRateLimitStore(store);
+        filter = new RateLimitFilter(store, recipeMetrics, "X-API-Key", Set.of("partner-a", "partner-b"));
+        chainCalls = new AtomicInteger();
+    }
+
+    @Test
+    void doFilter_AdmitsWithinBurstAndEmitsHeaders() throws Exception {
+        MockHttpServletResponse response = perform("10.0.0.1", null);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(1, chainCalls.get());
+        assertEquals("2", response.getHeader(RateLimitFilter.LIMIT_HEADER));
+        assertEquals("1", response.getHeader(RateLimitFilter.REMAINING_HEADER));
+        assertEquals("2", response.getHeader(RateLimitFilter.RESET_HEADER));
+    }
+
+    @Test
+    void doFilter_Answers429WithRetryAfterOnceBucketIsEmpty() throws Exception {
+        perform("10.0.0.1", null);
+        perform("10.0.0.1", null);
+
+        MockHttpServletResponse response = perform("10.0.0.1", null);
+
+        assertEquals(429, response.getStatus());
+        assertEquals(2, chainCalls.get());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertEquals("0", response.getHeader(RateLimitFilter.REMAINING_HEADER));
+        assertEquals("application/json", response.getContentType());
+        assertTrue(response.getContentAsString().contains("\"error\":\"Too many requests\""));
+        assertEquals(2.0, registry.get("recipe.ratelimit.requests").tag("result", "allowed").counter().count());
+        assertEquals(1.0, registry.get("recipe.ratelimit.requests").tag("result", "limited").counter().count());
+    }
+
+    @Test
+    void doFilter_AdmitsAgainAfterRefill() throws Exception {
+        perform("10.0.0.1", null);
+        perform("10.0.0.1", null);
+        assertEquals(429, perform("10.0.0.1", null).getStatus());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+
+        assertEquals(200, perform("10.0.0.1", null).getStatus());
+    }
+
+    @Test
+    void doFilter_KeysByApiKeyBeforeAddress() throws Exception {
+        perform("10.0.0.1", null);
+        perform("10.0.0.1", null);
+
+        assertEquals(200, perform("10.0.0.1", "partner-a").getStatus());
+        assertEquals(200, perform("10.0.0.2", "partner-a").getStatus());
+        assertEquals(429, perform("10.0.0.3", "partner-a").getStatus());
+        assertEquals(200, perform("10.0.0.1", "partner-b").getStatus());
+        assertEquals(3.0, registry.get("recipe.ratelimit.clients").gauge().value());
+    }
+
+    @Test
+    void doFilter_ChargesUnknownApiKeysToAddress() throws Exception {
+        perform("10.0.0.1", "random-1");
+        perform("10.0.0.1", "random-2");
+
+        assertEquals(429, perform("10.0.0.1", "random-3").getStatus());
+        assertEquals(1.0, registry.get("recipe.ratelimit.clients").gauge().value());
+    }
+
+    private MockHttpServletResponse perform(String remoteAddr, String apiKey) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/recipes/search");
+        request.setRemoteAddr(remoteAddr);
+        if (apiKey != null) {
+            request.addHeader("X-API-Key", apiKey);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, succeeding());
+        return response;
+    }
+
+    private FilterChain succeeding() {
+        return (req, res) -> {
+            chainCalls.incrementAndGet();
+            ((HttpServletResponse) res).setStatus(200);
+        };
+    }
+}
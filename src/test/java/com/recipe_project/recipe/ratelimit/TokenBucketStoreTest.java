@@ -0,0 +1,112 @@
+package com.recipe_project.recipe.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketStoreTest {
+
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        // Far from zero, so that wrapped nanoTime comparisons would show up
+        clock = new AtomicLong(Long.MAX_VALUE - 10 * ONE_SECOND);
+    }
+
+    @Test
+    void tryConsume_AllowsBurstThenRefuses() {
+        TokenBucketStore store = new TokenBucketStore(3, 1.0, 10, clock::get);
+
+        assertEquals(2, store.tryConsume("a", 1).remaining());
+        assertEquals(1, store.tryConsume("a", 1).remaining());
+        TokenBucket.Result last = store.tryConsume("a", 1);
+        assertTrue(last.allowed());
+        assertEquals(0, last.remaining());
+        assertEquals(3 * ONE_SECOND, last.waitNanos());
+
+        TokenBucket.Result refused = store.tryConsume("a", 1);
+        assertFalse(refused.allowed());
+        assertEquals(0, refused.remaining());
+        assertEquals(ONE_SECOND, refused.waitNanos());
+    }
+
+    @Test
+    void tryConsume_RefillsAtConfiguredRate() {
+        TokenBucketStore store = new TokenBucketStore(2, 4.0, 10, clock::get);
+        store.tryConsume("a", 1);
+        store.tryConsume("a", 1);
+        assertFalse(store.tryConsume("a", 1).allowed());
+
+        clock.addAndGet(ONE_SECOND / 4);
+        assertTrue(store.tryConsume("a", 1).allowed());
+        assertFalse(store.tryConsume("a", 1).allowed());
+
+        clock.addAndGet(10 * ONE_SECOND);
+        assertEquals(1, store.tryConsume("a", 1).remaining());
+    }
+
+    @Test
+    void tryConsume_KeepsClientsApart() {
+        TokenBucketStore store = new TokenBucketStore(1, 1.0, 10, clock::get);
+
+        assertTrue(store.tryConsume("a", 1).allowed());
+        assertFalse(store.tryConsume("a", 1).allowed());
+        assertTrue(store.tryConsume("b", 1).allowed());
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void tryConsume_SweepsFullBucketsWithoutCountingEvictions() {
+        TokenBucketStore store = new TokenBucketStore(5, 10.0, 4, clock::get);
+        for (int i = 0; i < 4; i++) {
+            store.tryConsume("client-" + i, 1);
+        }
+
+        clock.addAndGet(ONE_SECOND);
+        store.tryConsume("newcomer", 1);
+
+        assertEquals(1, store.size());
+        assertEquals(0, store.evictions());
+    }
+
+    @Test
+    void tryConsume_EvictsDrainingBucketsDownToThreeQuartersOfBound() {
+        TokenBucketStore store = new TokenBucketStore(5, 1.0, 8, clock::get);
+        for (int i = 0; i < 8; i++) {
+            store.tryConsume("client-" + i, 1);
+        }
+
+        store.tryConsume("newcomer", 1);
+
+        assertEquals(7, store.size());
+        assertEquals(2, store.evictions());
+    }
+
+    @Test
+    void tryConsume_EvictsEmptyBucketsLast() {
+        TokenBucketStore store = new TokenBucketStore(2, 1.0, 4, clock::get);
+        store.tryConsume("throttled", 2);
+        for (int i = 0; i < 3; i++) {
+            store.tryConsume("client-" + i, 1);
+        }
+
+        store.tryConsume("newcomer", 1);
+
+        assertEquals(1, store.evictions());
+        assertFalse(store.tryConsume("throttled", 1).allowed());
+    }
+
+    @Test
+    void constructor_RejectsNonPositiveSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketStore(0, 1.0, 10, clock::get));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketStore(1, 0.0, 10, clock::get));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketStore(1, 1.0, 0, clock::get));
+    }
+}
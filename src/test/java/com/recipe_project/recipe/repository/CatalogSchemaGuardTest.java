@@ -0,0 +1,77 @@
+package com.recipe_project.recipe.repository;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogSchemaGuardTest {
+
+    private JdbcDataSource dataSource;
+    private Connection keepAlive;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:schema-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        keepAlive = dataSource.getConnection();
+    }
+
+    @Test
+    void verify_RecordsVersionInEmptyDatabase() throws SQLException {
+        new CatalogSchemaGuard(dataSource).verify();
+
+        assertEquals(CatalogSchemaGuard.SCHEMA_VERSION, storedVersion());
+    }
+
+    @Test
+    void verify_AcceptsCatalogAtCurrentVersion() throws SQLException {
+        CatalogSchemaGuard guard = new CatalogSchemaGuard(dataSource);
+        guard.verify();
+        execute("CREATE TABLE recipes (id BIGINT PRIMARY KEY)");
+
+        assertDoesNotThrow(guard::verify);
+    }
+
+    @Test
+    void verify_RejectsCatalogWithoutVersion() throws SQLException {
+        // The layout before dictionary tables, never versioned
+        execute("CREATE TABLE recipes (id BIGINT PRIMARY KEY, cuisine VARCHAR(255) NOT NULL)");
+        execute("CREATE TABLE recipe_tags (recipe_id BIGINT NOT NULL, tags VARCHAR(255) NOT NULL)");
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> new CatalogSchemaGuard(dataSource).verify());
+
+        assertTrue(e.getMessage().contains("schema version 1"), e::getMessage);
+        assertTrue(e.getMessage().contains("recipedb.mv.db"), e::getMessage);
+    }
+
+    @Test
+    void verify_RejectsCatalogAtOtherVersion() throws SQLException {
+        execute("CREATE TABLE recipes (id BIGINT PRIMARY KEY)");
+        execute("CREATE TABLE " + CatalogSchemaGuard.VERSION_TABLE + " (version INT NOT NULL)");
+        execute("INSERT INTO " + CatalogSchemaGuard.VERSION_TABLE + " (version) VALUES (" + (CatalogSchemaGuard.SCHEMA_VERSION + 1) + ")");
+
+        assertThrows(IllegalStateException.class, () -> new CatalogSchemaGuard(dataSource).verify());
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.executeUpdate(sql);
+        }
+    }
+
+    private int storedVersion() throws SQLException {
+        try (Statement statement = keepAlive.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT version FROM " + CatalogSchemaGuard.VERSION_TABLE)) {
+            assertTrue(rows.next());
+            return rows.getInt(1);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.recipe_project.recipe.service;
 import com.recipe_project.recipe.dto.ExternalApiResponse;
 import com.recipe_project.recipe.dto.RecipeDTO;
 import com.recipe_project.recipe.exception.ExternalApiException;
+import com.recipe_project.recipe.metrics.RecipeMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,6 +31,9 @@ public class ExternalApiServiceTest {
     @Mock
     private WebClient webClient;
 
+    @Mock
+    private RecipeMetrics recipeMetrics;
+
     @Mock
     private WebClient.RequestHeadersUriSpec requestHeadersUriSpec;
 
@@ -103,7 +107,7 @@ public class ExternalApiServiceTest {
         when(requestHeadersUriSpec.uri("/recipes?limit=0")).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
         when(responseSpec.bodyToMono(ExternalApiResponse.class))
-                .thenReturn(Mono.error(new WebClientException("Connection failed")));
+                .thenReturn(Mono.error(new WebClientException("Connection failed") {}));
 
         ExternalApiException exception = assertThrows(ExternalApiException.class, () -> {
             externalApiService.fetchAllRecipes();
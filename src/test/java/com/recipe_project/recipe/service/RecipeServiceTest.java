@@ -1,21 +1,48 @@
 package com.recipe_project.recipe.service;
 
+import com.recipe_project.recipe.catalog.HeapRecipeCatalog;
+import com.recipe_project.recipe.catalog.RecipeCatalog;
+import com.recipe_project.recipe.catalog.RecipeCatalogHolder;
+import com.recipe_project.recipe.catalog.RecipeIdFilter;
+import com.recipe_project.recipe.catalog.RecipeIdFilterHolder;
 import com.recipe_project.recipe.dto.ExternalApiResponse;
 import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.entity.CatalogState;
 import com.recipe_project.recipe.entity.Recipe;
 import com.recipe_project.recipe.exception.RecipeNotFoundException;
 import com.recipe_project.recipe.mapper.RecipeMapper;
+import com.recipe_project.recipe.metrics.RecipeMetrics;
+import com.recipe_project.recipe.metrics.RecipeTracing;
+import com.recipe_project.recipe.repository.CatalogDictionary;
+import com.recipe_project.recipe.repository.CatalogStateRepository;
 import com.recipe_project.recipe.repository.RecipeRepository;
+import com.recipe_project.recipe.snapshot.CatalogSnapshot;
+import com.recipe_project.recipe.snapshot.CatalogSnapshotStore;
 import com.recipe_project.recipe.util.ValidationUtil;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.mockito.stubbing.Answer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import com.recipe_project.recipe.dto.RecipeSummaryDTO;
+import com.recipe_project.recipe.repository.RecipeSummaryView;
+import com.recipe_project.recipe.repository.RecipeTagView;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -38,23 +65,45 @@ public class RecipeServiceTest {
     @Mock
     private ValidationUtil validationUtil;
 
+    @Mock
+    private RecipeMetrics recipeMetrics;
+
+    @Spy
+    private RecipeTracing recipeTracing = new RecipeTracing(ObservationRegistry.NOOP);
+
+    @Mock
+    private CatalogStateRepository catalogStateRepository;
+
+    @Mock
+    private CatalogSnapshotStore catalogSnapshotStore;
+
+    @Mock
+    private RecipeCatalogHolder catalogHolder;
+
+    @Spy
+    private RecipeIdFilterHolder idFilterHolder = new RecipeIdFilterHolder(true);
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private Recipe testRecipeEntity;
     private RecipeDTO testRecipeDTO;
     private List<RecipeDTO> testRecipeDTOList;
     private ExternalApiResponse testExternalApiResponse;
     private List<Recipe> testRecipeEntityList;
+    private final CatalogDictionary dictionary = new CatalogDictionary();
     @BeforeEach
     void setUp() {
         // Create test Recipe entity with all fields
         testRecipeEntity = Recipe.builder()
                 .id(1L)
                 .name("Test Recipe")
-                .cuisine("Italian")
+                .cuisine(dictionary.cuisine("Italian"))
                 .cookTimeMinutes(30)
                 .prepTimeMinutes(15)
                 .servings(4)
                 .difficulty("Easy")
-                .tags(List.of("tag1", "tag2"))
+                .tags(dictionary.tags(List.of("tag1", "tag2")))
                 .ingredients(List.of("ingredient1", "ingredient2"))
                 .instructions(List.of("step1", "step2"))
                 .image("test_image_url")
@@ -62,7 +111,7 @@ public class RecipeServiceTest {
                 .reviewCount(10)
                 .caloriesPerServing(250)
                 .userId(123)
-                .mealType(List.of("Dinner"))
+                .mealType(dictionary.mealTypes(List.of("Dinner")))
                 .build();
 
         // Create test RecipeDTO with all fields
@@ -97,16 +146,87 @@ public class RecipeServiceTest {
     @Test
     void loadRecipesFromExternalApi_Success() {
         when(externalApiService.fetchAllRecipes()).thenReturn(testExternalApiResponse);
-        when(recipeMapper.toEntity(any(RecipeDTO.class))).thenReturn(testRecipeEntity);
-        when(recipeRepository.saveAll(anyList())).thenReturn(testRecipeEntityList);
+        when(recipeMapper.toEntity(any(RecipeDTO.class), any())).thenReturn(testRecipeEntity);
+        when(recipeRepository.saveAll(anyList())).thenAnswer(savingWithIds());
 
         int loadedCount = recipeService.loadRecipesFromExternalApi();
 
         assertEquals(1, loadedCount);
-        verify(recipeRepository).deleteAll();
+        verify(recipeRepository).deleteAllInBulk();
         verify(recipeRepository).saveAll(anyList());
         verify(externalApiService).fetchAllRecipes();
-        verify(recipeMapper).toEntity(any(RecipeDTO.class));
+        verify(recipeMapper).toEntity(any(RecipeDTO.class), any());
+        verify(catalogStateRepository).save(argThat(state -> state.getRecipeCount() == 1));
+        verify(catalogSnapshotStore).save(argThat(snapshot -> snapshot.recipes().equals(testRecipeDTOList)));
+    }
+
+    // Test loadRecipesFromExternalApi - the snapshot is only written once the catalog commits
+    @Test
+    void loadRecipesFromExternalApi_SavesSnapshotAfterCommit() {
+        when(externalApiService.fetchAllRecipes()).thenReturn(testExternalApiResponse);
+        when(recipeMapper.toEntity(any(RecipeDTO.class), any())).thenReturn(testRecipeEntity);
+        when(recipeRepository.saveAll(anyList())).thenAnswer(savingWithIds());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            recipeService.loadRecipesFromExternalApi();
+            verify(catalogSnapshotStore, never()).save(any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(catalogSnapshotStore).save(argThat(snapshot -> snapshot.recipes().equals(testRecipeDTOList)));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void loadRecipesFromExternalApi_HoldsOffOtherLoadsUntilTransactionCompletes() throws Exception {
+        when(externalApiService.fetchAllRecipes()).thenReturn(testExternalApiResponse);
+        when(recipeMapper.toEntity(any(RecipeDTO.class), any())).thenReturn(testRecipeEntity);
+        when(recipeRepository.saveAll(anyList())).thenAnswer(savingWithIds());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            recipeService.loadRecipesFromExternalApi();
+            CompletableFuture<Integer> restore = CompletableFuture.supplyAsync(() -> recipeService.restoreFromSnapshot(Duration.ofHours(24)));
+            assertThrows(TimeoutException.class, () -> restore.get(200, TimeUnit.MILLISECONDS));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            assertEquals(0, restore.get(5, TimeUnit.SECONDS));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // Test restoreFromSnapshot - usable snapshot replaces the catalog without fetching
+    @Test
+    void restoreFromSnapshot_FreshSnapshot() {
+        Instant takenAt = Instant.now().minus(Duration.ofHours(2));
+        when(externalApiService.getBaseUrl()).thenReturn("https://dummyjson.com");
+        when(catalogSnapshotStore.loadFresh("https://dummyjson.com", Duration.ofHours(24)))
+                .thenReturn(Optional.of(new CatalogSnapshot(takenAt, "https://dummyjson.com", testRecipeDTOList)));
+        when(recipeMapper.toEntity(any(RecipeDTO.class), any())).thenReturn(testRecipeEntity);
+        when(recipeRepository.saveAll(anyList())).thenAnswer(savingWithIds());
+
+        int restoredCount = recipeService.restoreFromSnapshot(Duration.ofHours(24));
+
+        assertEquals(1, restoredCount);
+        verify(externalApiService, never()).fetchAllRecipes();
+        verify(recipeRepository).deleteAllInBulk();
+        verify(catalogStateRepository).save(argThat(state -> state.getLoadedAt().equals(takenAt)));
+        verify(catalogSnapshotStore, never()).save(any());
+    }
+
+    // Test restoreFromSnapshot - no usable snapshot leaves the catalog alone
+    @Test
+    void restoreFromSnapshot_NoSnapshot() {
+        when(externalApiService.getBaseUrl()).thenReturn("https://dummyjson.com");
+        when(catalogSnapshotStore.loadFresh(anyString(), any(Duration.class))).thenReturn(Optional.empty());
+
+        assertEquals(0, recipeService.restoreFromSnapshot(Duration.ofHours(24)));
+        verify(recipeRepository, never()).deleteAllInBulk();
+        verify(recipeRepository, never()).saveAll(anyList());
     }
 
     // Test loadRecipesFromExternalApi - Null response case
@@ -118,7 +238,7 @@ public class RecipeServiceTest {
 
         assertEquals(0, loadedCount);
         verify(externalApiService).fetchAllRecipes();
-        verify(recipeRepository, never()).deleteAll();
+        verify(recipeRepository, never()).deleteAllInBulk();
         verify(recipeRepository, never()).saveAll(anyList());
     }
 
@@ -135,7 +255,7 @@ public class RecipeServiceTest {
 
         assertEquals(0, loadedCount);
         verify(externalApiService).fetchAllRecipes();
-        verify(recipeRepository, never()).deleteAll();
+        verify(recipeRepository, never()).deleteAllInBulk();
         verify(recipeRepository, never()).saveAll(anyList());
     }
 
@@ -226,6 +346,8 @@ public class RecipeServiceTest {
         verify(validationUtil).validateRecipeId(recipeId);
         verify(recipeRepository).findById(recipeId);
         verify(recipeMapper).toDTO(testRecipeEntity);
+        verify(recipeMetrics).recordOperation(eq(RecipeMetrics.Operation.GET_BY_ID), eq(RecipeMetrics.Outcome.SUCCESS), anyLong());
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
     }
 
     // Test getRecipeById - Recipe not found
@@ -241,6 +363,7 @@ public class RecipeServiceTest {
         verify(validationUtil).validateRecipeId(recipeId);
         verify(recipeRepository).findById(recipeId);
         verify(recipeMapper, never()).toDTO(any());
+        verify(recipeMetrics).recordOperation(eq(RecipeMetrics.Operation.GET_BY_ID), eq(RecipeMetrics.Outcome.NOT_FOUND), anyLong());
     }
 
     // Test getRecipeById - Invalid ID (null)
@@ -290,7 +413,7 @@ public class RecipeServiceTest {
         Recipe secondRecipe = Recipe.builder()
                 .id(2L)
                 .name("Second Recipe")
-                .cuisine("Mexican")
+                .cuisine(dictionary.cuisine("Mexican"))
                 .build();
         
         RecipeDTO secondRecipeDTO = RecipeDTO.builder()
@@ -342,12 +465,168 @@ public class RecipeServiceTest {
         int loadedCount = recipeService.loadRecipesFromExternalApi();
 
         assertEquals(0, loadedCount);
-        verify(recipeRepository).deleteAll();
+        verify(recipeRepository).deleteAllInBulk();
         verify(recipeRepository).saveAll(List.of());
-        verify(recipeMapper, never()).toEntity(any());
+        verify(recipeMapper, never()).toEntity(any(), any());
+    }
+
+    // Test getAllRecipeSummaries - tags are grouped per recipe
+    @Test
+    void getAllRecipeSummaries_GroupsTags() {
+        RecipeSummaryView summaryView = mock(RecipeSummaryView.class);
+        when(summaryView.getId()).thenReturn(1L);
+        RecipeTagView tagView = mock(RecipeTagView.class);
+        when(tagView.getRecipeId()).thenReturn(1L);
+        when(tagView.getTag()).thenReturn("tag1");
+        RecipeSummaryDTO summaryDTO = RecipeSummaryDTO.builder().id(1L).tags(List.of("tag1")).build();
+
+        when(recipeRepository.findAllSummaries()).thenReturn(List.of(summaryView));
+        when(recipeRepository.findAllTags()).thenReturn(List.of(tagView));
+        when(recipeMapper.toSummaryDTO(summaryView, List.of("tag1"))).thenReturn(summaryDTO);
+
+        List<RecipeSummaryDTO> result = recipeService.getAllRecipeSummaries();
+
+        assertEquals(List.of(summaryDTO), result);
+        verify(recipeRepository, never()).findAll();
     }
 
+    // Test searchRecipeSummaries - tags are loaded only for matching recipes
+    @Test
+    void searchRecipeSummaries_ValidQuery() {
+        RecipeSummaryView summaryView = mock(RecipeSummaryView.class);
+        when(summaryView.getId()).thenReturn(7L);
+        RecipeSummaryDTO summaryDTO = RecipeSummaryDTO.builder().id(7L).build();
 
+        when(recipeRepository.searchSummaries("Italian")).thenReturn(List.of(summaryView));
+        when(recipeRepository.findTagsByRecipeIds(List.of(7L))).thenReturn(List.of());
+        when(recipeMapper.toSummaryDTO(summaryView, List.of())).thenReturn(summaryDTO);
 
+        List<RecipeSummaryDTO> result = recipeService.searchRecipeSummaries(" Italian ");
 
+        assertEquals(List.of(summaryDTO), result);
+        verify(validationUtil).validateSearchQuery(" Italian ");
+        verify(recipeRepository, never()).findAllTags();
+        verify(recipeRepository, never()).findByNameContainingIgnoreCaseOrCuisineContainingIgnoreCase(anyString());
+    }
+
+    // Test searchRecipeSummaries - no matches skips the tag query
+    @Test
+    void searchRecipeSummaries_NoResults() {
+        when(recipeRepository.searchSummaries("NonExistent")).thenReturn(List.of());
+
+        List<RecipeSummaryDTO> result = recipeService.searchRecipeSummaries("NonExistent");
+
+        assertTrue(result.isEmpty());
+        verify(recipeRepository, never()).findTagsByRecipeIds(anyCollection());
+    }
+
+    // Test loadRecipesFromExternalApi - the saved recipes are published as the read model
+    @Test
+    void loadRecipesFromExternalApi_PublishesReadModel() {
+        when(externalApiService.fetchAllRecipes()).thenReturn(testExternalApiResponse);
+        when(recipeRepository.loadDictionary()).thenReturn(dictionary);
+        when(recipeMapper.toEntity(any(RecipeDTO.class), any())).thenReturn(testRecipeEntity);
+        Recipe saved = Recipe.builder().id(1L).name("Test Recipe").build();
+        when(recipeRepository.saveAll(anyList())).thenReturn(List.of(saved));
+        when(recipeMapper.toDTO(saved)).thenReturn(testRecipeDTO);
+        when(catalogHolder.isEnabled()).thenReturn(true);
+        when(catalogHolder.builder(1)).thenReturn(HeapRecipeCatalog.builder(1));
+
+        recipeService.loadRecipesFromExternalApi();
+
+        verify(catalogHolder).publish(argThat(catalog -> catalog.size() == 1 && catalog.indexOf(1L) == 0));
+    }
+
+    // Test the id filter - ids the loaded catalog never had are rejected before any repository access
+    @Test
+    void getRecipeById_UnknownIdRejectedByIdFilter() {
+        idFilterHolder.publish(RecipeIdFilter.of(new long[]{1L, 2L, 3L}));
+        when(recipeRepository.findById(2L)).thenReturn(Optional.of(testRecipeEntity));
+        when(recipeMapper.toDTO(testRecipeEntity)).thenReturn(testRecipeDTO);
+
+        assertEquals(testRecipeDTO, recipeService.getRecipeById(2L));
+        RecipeNotFoundException ex = assertThrows(RecipeNotFoundException.class, () -> recipeService.getRecipeById(999L));
+
+        assertEquals("Recipe not found with ID: 999", ex.getMessage());
+        assertEquals(0, ex.getStackTrace().length);
+        verify(recipeRepository, never()).findById(999L);
+    }
+
+    // Test the read model path - reads are served without touching the repository
+    @Test
+    void readModel_ServesReadsFromTheCatalog() {
+        RecipeCatalog catalog = HeapRecipeCatalog.builder(1).add(1L, testRecipeDTO).build();
+        when(catalogHolder.current()).thenReturn(Optional.of(catalog));
+
+        assertEquals(testRecipeDTO, recipeService.getRecipeById(1L));
+        assertEquals(testRecipeDTOList, recipeService.getAllRecipes());
+        assertEquals(testRecipeDTOList, recipeService.searchRecipes("ital"));
+        assertTrue(recipeService.searchRecipes("sushi").isEmpty());
+        assertEquals(List.of(1L), recipeService.searchRecipeSummaries("TAG2").stream().map(RecipeSummaryDTO::getId).toList());
+        assertEquals(1, recipeService.getAllRecipeSummaries().size());
+        assertThrows(RecipeNotFoundException.class, () -> recipeService.getRecipeById(2L));
+
+        verify(validationUtil).validateSearchQuery("ital");
+        verifyNoInteractions(recipeRepository, recipeMapper, transactionManager);
+    }
+
+    @Test
+    void isCatalogFresh_RecentLoadFromSameSource() {
+        when(externalApiService.getBaseUrl()).thenReturn("https://dummyjson.com");
+        when(catalogStateRepository.findById(CatalogState.SINGLETON_ID)).thenReturn(Optional.of(catalogState(
+                Instant.now().minus(Duration.ofHours(1)), 30, "https://dummyjson.com")));
+        when(recipeRepository.count()).thenReturn(30L);
+
+        assertTrue(recipeService.isCatalogFresh(Duration.ofHours(24)));
+    }
+
+    @Test
+    void isCatalogFresh_StaleLoad() {
+        when(externalApiService.getBaseUrl()).thenReturn("https://dummyjson.com");
+        when(catalogStateRepository.findById(CatalogState.SINGLETON_ID)).thenReturn(Optional.of(catalogState(
+                Instant.now().minus(Duration.ofHours(25)), 30, "https://dummyjson.com")));
+
+        assertFalse(recipeService.isCatalogFresh(Duration.ofHours(24)));
+    }
+
+    @Test
+    void isCatalogFresh_DifferentSourceOrIncompleteLoad() {
+        when(externalApiService.getBaseUrl()).thenReturn("http://localhost:8089");
+        when(catalogStateRepository.findById(CatalogState.SINGLETON_ID)).thenReturn(Optional.of(catalogState(
+                Instant.now(), 30, "https://dummyjson.com")));
+        assertFalse(recipeService.isCatalogFresh(Duration.ofHours(24)));
+
+        when(externalApiService.getBaseUrl()).thenReturn("https://dummyjson.com");
+        when(recipeRepository.count()).thenReturn(12L);
+        assertFalse(recipeService.isCatalogFresh(Duration.ofHours(24)));
+    }
+
+    @Test
+    void isCatalogFresh_ZeroMaxAgeAlwaysRefetches() {
+        assertFalse(recipeService.isCatalogFresh(Duration.ZERO));
+        verifyNoInteractions(catalogStateRepository);
+    }
+
+    private CatalogState catalogState(Instant loadedAt, int recipeCount, String source) {
+        return CatalogState.builder()
+                .id(CatalogState.SINGLETON_ID)
+                .loadedAt(loadedAt)
+                .recipeCount(recipeCount)
+                .source(source)
+                .build();
+    }
+
+    /**
+     * Stands in for {@code saveAll}, assigning ids the way the sequence would.
+     */
+    private static Answer<List<Recipe>> savingWithIds() {
+        return invocation -> {
+            List<Recipe> recipes = invocation.getArgument(0);
+            long id = 1;
+            for (Recipe recipe : recipes) {
+                recipe.setId(id++);
+            }
+            return recipes;
+        };
+    }
 }
@@ -0,0 +1,129 @@
+package com.recipe_project.recipe.snapshot;
+
+import com.recipe_project.recipe.dto.RecipeDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogSnapshotCodecTest {
+
+    private static final String SOURCE = "https://dummyjson.com";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void roundTrip_PreservesEveryFieldIncludingNulls() throws IOException {
+        CatalogSnapshot snapshot = snapshot(Instant.now().truncatedTo(ChronoUnit.MILLIS));
+
+        CatalogSnapshot decoded = CatalogSnapshotCodec.decode(ByteBuffer.wrap(encode(snapshot)));
+
+        assertEquals(snapshot, decoded);
+    }
+
+    @Test
+    void encode_StoresRepeatedStringsOnce() throws IOException {
+        byte[] bytes = encode(snapshot(Instant.now()));
+
+        String text = new String(bytes, StandardCharsets.UTF_8);
+        assertEquals(text.indexOf("Italian"), text.lastIndexOf("Italian"));
+    }
+
+    @Test
+    void decode_RejectsCorruptTruncatedAndUnknownVersions() throws IOException {
+        byte[] bytes = encode(snapshot(Instant.now()));
+
+        byte[] flipped = bytes.clone();
+        flipped[bytes.length / 2] ^= 0x01;
+        assertThrows(IOException.class, () -> CatalogSnapshotCodec.decode(ByteBuffer.wrap(flipped)));
+
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 10);
+        assertThrows(IOException.class, () -> CatalogSnapshotCodec.decode(ByteBuffer.wrap(truncated)));
+
+        assertThrows(IOException.class, () -> CatalogSnapshotCodec.decode(ByteBuffer.wrap(new byte[3])));
+    }
+
+    @Test
+    void varLong_RoundTripsBoundaryValues() throws IOException {
+        for (long value : new long[]{0, 1, 127, 128, 16_383, 16_384, Integer.MAX_VALUE, Long.MAX_VALUE, -1}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            CatalogSnapshotCodec.writeVarLong(out, value);
+            assertEquals(value, CatalogSnapshotCodec.readVarLong(ByteBuffer.wrap(out.toByteArray())));
+        }
+    }
+
+    @Test
+    void store_SavesAndLoadsFreshSnapshotFromSameSource() {
+        CatalogSnapshotStore store = new CatalogSnapshotStore(true, tempDir.resolve("data/catalog.snapshot"));
+        CatalogSnapshot snapshot = snapshot(Instant.now().truncatedTo(ChronoUnit.MILLIS));
+
+        store.save(snapshot);
+
+        assertEquals(snapshot, store.loadFresh(SOURCE, Duration.ofHours(1)).orElseThrow());
+        assertTrue(store.loadFresh("http://localhost:8089", Duration.ofHours(1)).isEmpty());
+    }
+
+    @Test
+    void store_IgnoresStaleCorruptOrDisabledSnapshots() throws IOException {
+        Path path = tempDir.resolve("catalog.snapshot");
+        CatalogSnapshotStore store = new CatalogSnapshotStore(true, path);
+
+        store.save(snapshot(Instant.now().minus(Duration.ofHours(2))));
+        assertTrue(store.loadFresh(SOURCE, Duration.ofHours(1)).isEmpty());
+
+        Files.write(path, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        assertTrue(store.loadFresh(SOURCE, Duration.ofHours(1)).isEmpty());
+
+        CatalogSnapshotStore disabled = new CatalogSnapshotStore(false, tempDir.resolve("disabled.snapshot"));
+        disabled.save(snapshot(Instant.now()));
+        assertFalse(Files.exists(tempDir.resolve("disabled.snapshot")));
+    }
+
+    private byte[] encode(CatalogSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CatalogSnapshotCodec.encode(snapshot, out);
+        return out.toByteArray();
+    }
+
+    private CatalogSnapshot snapshot(Instant createdAt) {
+        RecipeDTO full = RecipeDTO.builder()
+                .id(1L)
+                .name("Classic Margherita Pizza")
+                .cookTimeMinutes(15)
+                .prepTimeMinutes(20)
+                .servings(4)
+                .difficulty("Easy")
+                .tags(List.of("Pizza", "Italian"))
+                .ingredients(List.of("Pizza dough", "Tomato sauce", "Fresh mozzarella"))
+                .instructions(List.of("Preheat the oven.", "Bake until golden."))
+                .cuisine("Italian")
+                .image("https://cdn.dummyjson.com/recipe-images/1.webp")
+                .rating(4.6)
+                .reviewCount(98)
+                .caloriesPerServing(300)
+                .userId(166)
+                .mealType(List.of("Dinner"))
+                .build();
+        RecipeDTO sparse = RecipeDTO.builder()
+                .id(2L)
+                .name("Unrated Draft")
+                .cuisine("Italian")
+                .prepTimeMinutes(-1)
+                .tags(List.of())
+                .build();
+        return new CatalogSnapshot(createdAt, SOURCE, List.of(full, sparse));
+    }
+}
@@ -0,0 +1,108 @@
+package com.recipe_project.recipe.stub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipe_project.recipe.dto.ExternalApiResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StubRecipeApiServerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private StubRecipeApiServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    void recipes_LimitZeroReturnsWholeCatalog() throws Exception {
+        server = start(StubRecipeApiServer.Settings.of(120));
+
+        ExternalApiResponse response = fetch("/recipes?limit=0");
+
+        assertEquals(120, response.getRecipes().size());
+        assertEquals(120, response.getTotal());
+        assertEquals(0, response.getSkip());
+        assertEquals(1L, response.getRecipes().get(0).getId());
+    }
+
+    @Test
+    void recipes_LimitAndSkipPage() throws Exception {
+        server = start(StubRecipeApiServer.Settings.of(120));
+
+        ExternalApiResponse response = fetch("/recipes?limit=25&skip=100");
+
+        assertEquals(20, response.getRecipes().size());
+        assertEquals(120, response.getTotal());
+        assertEquals(100, response.getSkip());
+        assertEquals(20, response.getLimit());
+        assertEquals(new SyntheticCatalogGenerator(42L).recipe(101L), response.getRecipes().get(0));
+    }
+
+    @Test
+    void recipes_DefaultLimitMatchesUpstream() throws Exception {
+        server = start(StubRecipeApiServer.Settings.of(120));
+
+        ExternalApiResponse response = fetch("/recipes");
+
+        assertEquals(30, response.getRecipes().size());
+    }
+
+    @Test
+    void recipes_FailureInjection() throws Exception {
+        server = start(new StubRecipeApiServer.Settings(0, 10, 42L, Duration.ZERO, Duration.ZERO, 1.0));
+
+        HttpResponse<String> response = get("/recipes?limit=0");
+
+        assertEquals(503, response.statusCode());
+        assertEquals(1, server.getFailureCount());
+    }
+
+    @Test
+    void recipes_LatencyInjection() throws Exception {
+        server = start(new StubRecipeApiServer.Settings(0, 10, 42L, Duration.ofMillis(200), Duration.ZERO, 0.0));
+
+        long start = System.nanoTime();
+        HttpResponse<String> response = get("/recipes?limit=1");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 200);
+    }
+
+    @Test
+    void unknownPath_NotFound() throws Exception {
+        server = start(StubRecipeApiServer.Settings.of(10));
+
+        assertEquals(404, get("/recipes/search").statusCode());
+    }
+
+    private StubRecipeApiServer start(StubRecipeApiServer.Settings settings) throws Exception {
+        StubRecipeApiServer stub = new StubRecipeApiServer(settings, objectMapper);
+        stub.start();
+        return stub;
+    }
+
+    private ExternalApiResponse fetch(String path) throws Exception {
+        HttpResponse<String> response = get(path);
+        assertEquals(200, response.statusCode());
+        return objectMapper.readValue(response.body(), ExternalApiResponse.class);
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(server.getBaseUrl() + path)).GET().build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
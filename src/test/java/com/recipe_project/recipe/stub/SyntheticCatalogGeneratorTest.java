@@ -0,0 +1,83 @@
+package com.recipe_project.recipe.stub;
+
+import com.recipe_project.recipe.dto.RecipeDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SyntheticCatalogGeneratorTest {
+
+    @Test
+    void recipes_SameSeedProducesSameCatalog() {
+        List<RecipeDTO> first = new SyntheticCatalogGenerator(42L).recipes(0, 50);
+        List<RecipeDTO> second = new SyntheticCatalogGenerator(42L).recipes(0, 50);
+
+        assertEquals(first, second);
+    }
+
+    @Test
+    void recipes_DifferentSeedProducesDifferentCatalog() {
+        List<RecipeDTO> first = new SyntheticCatalogGenerator(42L).recipes(0, 20);
+        List<RecipeDTO> second = new SyntheticCatalogGenerator(43L).recipes(0, 20);
+
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void recipes_PagesMatchFullCatalog() {
+        SyntheticCatalogGenerator generator = new SyntheticCatalogGenerator(7L);
+
+        List<RecipeDTO> all = generator.recipes(0, 30);
+        List<RecipeDTO> page = generator.recipes(10, 10);
+
+        assertEquals(all.subList(10, 20), page);
+        assertEquals(11L, page.get(0).getId());
+    }
+
+    @Test
+    void recipe_PopulatesAllFields() {
+        RecipeDTO recipe = new SyntheticCatalogGenerator(1L).recipe(5L);
+
+        assertEquals(5L, recipe.getId());
+        assertNotNull(recipe.getName());
+        assertNotNull(recipe.getCuisine());
+        assertNotNull(recipe.getDifficulty());
+        assertFalse(recipe.getTags().isEmpty());
+        assertTrue(recipe.getIngredients().size() >= 4);
+        assertTrue(recipe.getInstructions().size() >= 2);
+        assertFalse(recipe.getMealType().isEmpty());
+        assertTrue(recipe.getRating() >= 3.0 && recipe.getRating() <= 5.0);
+    }
+
+    @Test
+    void recipes_IngredientsAreSkewed() {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (RecipeDTO recipe : new SyntheticCatalogGenerator(42L).recipes(0, 2000)) {
+            recipe.getIngredients().forEach(ingredient -> frequencies.merge(ingredient, 1, Integer::sum));
+        }
+
+        int mostCommon = frequencies.values().stream().max(Integer::compare).orElseThrow();
+        double mean = frequencies.values().stream().mapToInt(Integer::intValue).average().orElseThrow();
+
+        assertTrue(mostCommon > 10 * mean, "expected a Zipfian head, max=" + mostCommon + " mean=" + mean);
+    }
+
+    @Test
+    void zipfSampler_FavoursLowRanks() {
+        SyntheticCatalogGenerator.ZipfSampler sampler = new SyntheticCatalogGenerator.ZipfSampler(100, 1.0);
+        SplittableRandom random = new SplittableRandom(1L);
+        int[] counts = new int[100];
+        for (int i = 0; i < 100_000; i++) {
+            counts[sampler.sample(random)]++;
+        }
+
+        assertTrue(counts[0] > counts[1]);
+        assertTrue(counts[1] > counts[10]);
+        assertTrue(counts[10] > counts[99]);
+    }
+}
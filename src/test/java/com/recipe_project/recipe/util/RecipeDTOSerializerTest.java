@@ -0,0 +1,49 @@
+package com.recipe_project.recipe.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.recipe_project.recipe.dto.RecipeDTO;
+import com.recipe_project.recipe.stub.SyntheticCatalogGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RecipeDTOSerializerTest {
+
+    private final ObjectMapper defaultMapper = new ObjectMapper();
+    private final ObjectMapper fastMapper = new ObjectMapper()
+            .registerModule(new BlackbirdModule())
+            .registerModule(new SimpleModule().addSerializer(RecipeDTO.class, new RecipeDTOSerializer()));
+
+    @Test
+    void serialize_MatchesTheBeanSerializer() throws IOException {
+        List<RecipeDTO> recipes = new SyntheticCatalogGenerator(42L).recipes(0, 20);
+
+        assertArrayEquals(defaultMapper.writeValueAsBytes(recipes), fastMapper.writeValueAsBytes(recipes));
+    }
+
+    @Test
+    void serialize_WritesNullsAndEscapesLikeTheBeanSerializer() throws IOException {
+        RecipeDTO sparse = RecipeDTO.builder()
+                .id(8L)
+                .name("Crème \"brûlée\"\n")
+                .tags(List.of())
+                .instructions(Arrays.asList("Stir", null))
+                .rating(4.0)
+                .build();
+
+        assertEquals(defaultMapper.writeValueAsString(sparse), fastMapper.writeValueAsString(sparse));
+    }
+
+    @Test
+    void deserialize_RoundTripsThroughTheBuilder() throws IOException {
+        RecipeDTO recipe = new SyntheticCatalogGenerator(7L).recipes(0, 1).get(0);
+
+        assertEquals(recipe, fastMapper.readValue(fastMapper.writeValueAsBytes(recipe), RecipeDTO.class));
+    }
+}
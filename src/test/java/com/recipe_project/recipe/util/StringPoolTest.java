@@ -0,0 +1,74 @@
+package com.recipe_project.recipe.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.recipe_project.recipe.dto.ExternalApiResponse;
+import com.recipe_project.recipe.dto.RecipeDTO;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StringPoolTest {
+
+    private static final String CATALOG = """
+            {"recipes": [
+              {"id": 1, "name": "Pesto Pasta", "difficulty": "Easy", "cuisine": "Italian",
+               "tags": ["Pasta", "Quick"], "ingredients": ["Olive oil", "Basil"], "mealType": ["Dinner"]},
+              {"id": 2, "name": "Caprese Salad", "difficulty": "Easy", "cuisine": "Italian",
+               "tags": ["Salad", "Quick"], "ingredients": ["Olive oil", "Tomatoes"], "mealType": ["Dinner"]}
+            ], "total": 2, "skip": 0, "limit": 2}
+            """;
+
+    private final ObjectReader reader = new ObjectMapper().readerFor(ExternalApiResponse.class);
+
+    @Test
+    void canonical_ReturnsTheFirstInstanceAndCountsDuplicates() {
+        StringPool pool = new StringPool();
+        String first = new String("Olive oil");
+        String second = new String("Olive oil");
+
+        assertSame(first, pool.canonical(first));
+        assertSame(first, pool.canonical(second));
+        assertSame(first, pool.canonical(first));
+        assertNull(pool.canonical(null));
+
+        assertEquals(3, pool.getLookups());
+        assertEquals(1, pool.getDistinct());
+        // Only the second instance was a copy that the pool let go
+        assertEquals(1, pool.getDuplicates());
+        assertEquals(24 + 32, pool.getBytesSaved());
+    }
+
+    @Test
+    void retainedBytes_CountsTwoBytesPerCharacterOutsideLatin1() {
+        assertEquals(24 + 24, StringPool.retainedBytes("Crème"));
+        assertEquals(24 + 32, StringPool.retainedBytes("Bún chả"));
+    }
+
+    @Test
+    void deserialize_SharesRepeatedValuesWhenTheReaderCarriesAPool() throws IOException {
+        StringPool pool = new StringPool();
+
+        List<RecipeDTO> recipes = reader.withAttribute(StringPool.class, pool).<ExternalApiResponse>readValue(CATALOG).getRecipes();
+
+        RecipeDTO pesto = recipes.get(0);
+        RecipeDTO caprese = recipes.get(1);
+        assertSame(pesto.getIngredients().get(0), caprese.getIngredients().get(0));
+        assertSame(pesto.getTags().get(1), caprese.getTags().get(1));
+        assertSame(pesto.getCuisine(), caprese.getCuisine());
+        assertSame(pesto.getMealType().get(0), caprese.getMealType().get(0));
+        assertEquals(List.of("Salad", "Quick"), caprese.getTags());
+        assertEquals(5, pool.getDuplicates());
+    }
+
+    @Test
+    void deserialize_BehavesLikeTheDefaultWithoutAPool() throws IOException {
+        List<RecipeDTO> recipes = reader.<ExternalApiResponse>readValue(CATALOG).getRecipes();
+
+        assertEquals("Olive oil", recipes.get(1).getIngredients().get(0));
+        assertNotSame(recipes.get(0).getIngredients().get(0), recipes.get(1).getIngredients().get(0));
+    }
+}